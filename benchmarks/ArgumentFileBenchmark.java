@@ -0,0 +1,104 @@
+package benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import getopt.Getopt;
+
+/**
+ * Parses an argument vector whose operands come from a 1 GB {@code @file}
+ * with argument file expansion enabled, reading every operand through
+ * {@link Getopt#operands()}.
+ *
+ * <p>The file holds a few options followed by paths, one in sixteen of them
+ * quoted because it contains a space. The forked JVM's heap is limited to
+ * 128 MB, far less than the file, so the benchmark only completes if the file
+ * is tokenized incrementally rather than loaded. Each invocation reads the
+ * whole file, so the benchmark runs in single-shot mode; divide the file size
+ * by the score for MB/s.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 2, jvmArgsAppend = "-Xmx128m")
+public class ArgumentFileBenchmark {
+
+    @Param({"1024"})
+    public long fileMegabytes;
+
+    private Path file;
+    private String[] args;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("getopt-args", ".txt");
+        long target = fileMegabytes * 1_000_000;
+        Random random = new Random(17480);
+        long written = 0;
+        try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            w.write("-v -n 3 --output result.txt\n");
+            StringBuilder line = new StringBuilder();
+            for (long i = 0; written < target; i++) {
+                line.setLength(0);
+                boolean quoted = i % 16 == 0;
+                if (quoted) {
+                    line.append('"');
+                }
+                line.append("/data/batch-").append(random.nextInt(1000))
+                        .append(quoted ? "/input file " : "/input-file-").append(i).append(".csv");
+                if (quoted) {
+                    line.append('"');
+                }
+                line.append('\n');
+                w.append(line);
+                written += line.length();
+            }
+        }
+        args = new String[] {"@" + file};
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long parse() {
+        Getopt.LongOption[] longOptions = {
+            new Getopt.LongOption("output", Getopt.LongOption.REQUIRED_ARGUMENT, null, 'o'),
+        };
+        Getopt g = new Getopt(args, "vn:o:", longOptions);
+        g.setArgumentFileExpansion(true);
+        long options = 0;
+        while (g.getOpt() != -1) {
+            options++;
+        }
+        long operands = 0;
+        for (Iterator<String> it = g.operands(); it.hasNext(); it.next()) {
+            operands++;
+        }
+        return options + operands;
+    }
+}
@@ -0,0 +1,116 @@
+package benchmarks;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import collation.LocaleCollator;
+import collation.LocaleCollator.BoundCollator;
+
+/**
+ * Compares a BoundCollator with the static LocaleCollator API, both per pair
+ * and in batches of pairs. Scores are per pair in every benchmark: the batch
+ * benchmarks use {@link OperationsPerInvocation}, so the two kinds can be read
+ * side by side.
+ *
+ * <p>The "latin" alphabet stays within the Latin-1 weight tables; the "greek"
+ * alphabet falls outside them, so comparisons go through binary keys.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BoundCollatorBenchmark {
+
+    private static final int PAIRS = 4096;
+
+    @Param({"en-US", "de-DE"})
+    public String languageTag;
+
+    @Param({"latin", "greek"})
+    public String alphabet;
+
+    private Locale locale;
+    private BoundCollator bound;
+    private String[] left;
+    private String[] right;
+    private int[] results;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        locale = Locale.forLanguageTag(languageTag);
+        bound = LocaleCollator.forLocale(locale);
+        char first = alphabet.equals("latin") ? 'a' : 'α';
+        Random random = new Random(17480);
+        left = new String[PAIRS];
+        right = new String[PAIRS];
+        results = new int[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            // Pairs share a random prefix so comparisons do not stop at the
+            // first character.
+            String prefix = randomString(random, first, random.nextInt(16));
+            left[i] = prefix + randomString(random, first, 8);
+            right[i] = prefix + randomString(random, first, 8);
+        }
+    }
+
+    private static String randomString(Random random, char first, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) (first + random.nextInt(24)));
+        }
+        return sb.toString();
+    }
+
+    private int nextPair() {
+        int i = next;
+        next = (i + 1) & (PAIRS - 1);
+        return i;
+    }
+
+    @Benchmark
+    public int pairStatic() {
+        int i = nextPair();
+        return LocaleCollator.compareStrings(locale, left[i], right[i]);
+    }
+
+    @Benchmark
+    public int pairBound() {
+        int i = nextPair();
+        return bound.compare(left[i], right[i]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void batchStatic(Blackhole bh) {
+        for (int i = 0; i < PAIRS; i++) {
+            results[i] = Integer.signum(LocaleCollator.compareStrings(locale, left[i], right[i]));
+        }
+        bh.consume(results);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void batchBound(Blackhole bh) {
+        bound.compareAll(left, right, results);
+        bh.consume(results);
+    }
+}
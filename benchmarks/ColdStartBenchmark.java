@@ -0,0 +1,77 @@
+package benchmarks;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import getopt.Getopt;
+
+/**
+ * Measures the first parse of an argument vector in a fresh JVM, with the
+ * binder generated from {@link ColdStartOptions} and with the equivalent
+ * hand-written getOpt loop. Each fork runs a single unwarmed invocation, so the
+ * score includes class loading and interpretation of the parsing code, which
+ * is what a command-line tool pays on every start. Many forks are needed for
+ * a stable average.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(30)
+public class ColdStartBenchmark {
+
+    private static final String[] ARGS = {"-v", "-n", "42", "--output", "out.txt", "a.txt", "b.txt"};
+
+    @Benchmark
+    public ColdStartOptions generatedBinder() {
+        return ColdStartOptionsBinder.parse(ARGS);
+    }
+
+    @Benchmark
+    public ColdStartOptions handWritten() {
+        Getopt.LongOption[] longOptions = {
+            new Getopt.LongOption("verbose", Getopt.LongOption.NO_ARGUMENT, null, 'v'),
+            new Getopt.LongOption("number", Getopt.LongOption.REQUIRED_ARGUMENT, null, 'n'),
+            new Getopt.LongOption("output", Getopt.LongOption.REQUIRED_ARGUMENT, null, 'o'),
+        };
+        Getopt g = new Getopt(ARGS, "vn:o:", longOptions);
+        boolean verbose = false;
+        int number = 1;
+        Path output = null;
+        int c;
+        while ((c = g.getOpt()) != -1) {
+            switch (c) {
+                case 'v':
+                    verbose = true;
+                    break;
+                case 'n':
+                    number = Integer.parseInt(g.getOptArg());
+                    break;
+                case 'o':
+                    output = Path.of(g.getOptArg());
+                    break;
+                default:
+                    throw new IllegalArgumentException("invalid option");
+            }
+        }
+        if (output == null) {
+            throw new IllegalArgumentException("missing required option --output");
+        }
+        List<Path> files = new ArrayList<>();
+        for (Iterator<String> it = g.operands(); it.hasNext(); ) {
+            files.add(Path.of(it.next()));
+        }
+        return new ColdStartOptions(verbose, number, output, files);
+    }
+}
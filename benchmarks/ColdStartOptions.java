@@ -0,0 +1,19 @@
+package benchmarks;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import getopt.Operands;
+import getopt.Option;
+
+/**
+ * The options parsed by {@link ColdStartBenchmark}. OptionBinderProcessor
+ * generates ColdStartOptionsBinder from this record when the benchmarks are
+ * compiled.
+ */
+record ColdStartOptions(
+        @Option(shortName = 'v', longName = "verbose") boolean verbose,
+        @Option(shortName = 'n', longName = "number", defaultValue = "1") int number,
+        @Option(shortName = 'o', longName = "output", required = true) Path output,
+        @Operands List<Path> files) {
+}
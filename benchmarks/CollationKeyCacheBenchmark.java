@@ -0,0 +1,109 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import collation.CollationKeyCache;
+import collation.LocaleCollator;
+
+/**
+ * Measures collation key lookups from 32 threads under a Zipfian workload,
+ * with and without a shared CollationKeyCache. The cache is sized to hold
+ * about a tenth of the distinct strings, so eviction is exercised. Hit rate,
+ * eviction count and cache size are printed at the end of each trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(32)
+public class CollationKeyCacheBenchmark {
+
+    private static final Locale LOCALE = Locale.forLanguageTag("de-DE");
+
+    @State(Scope.Benchmark)
+    public static class Workload {
+        @Param({"100000", "1000000"})
+        public int distinct;
+
+        @Param({"0.99", "1.2"})
+        public double skew;
+
+        String[] strings;
+        // Cumulative Zipfian distribution over the ranks of strings.
+        double[] cumulative;
+        CollationKeyCache cache;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(17480);
+            strings = new String[distinct];
+            for (int i = 0; i < distinct; i++) {
+                StringBuilder sb = new StringBuilder();
+                int length = 6 + random.nextInt(20);
+                for (int j = 0; j < length; j++) {
+                    sb.append("aäbcdeéfghijklmnoöpqrsßtuüvwxyz".charAt(random.nextInt(31)));
+                }
+                strings[i] = sb.toString();
+            }
+            cumulative = new double[distinct];
+            double total = 0;
+            for (int i = 0; i < distinct; i++) {
+                total += 1 / Math.pow(i + 1, skew);
+                cumulative[i] = total;
+            }
+            for (int i = 0; i < distinct; i++) {
+                cumulative[i] /= total;
+            }
+            // Roughly 64 bytes of string and key per entry.
+            cache = new CollationKeyCache(distinct / 10 * 64L, CollationKeyCache.Retention.STRONG);
+        }
+
+        @TearDown(Level.Trial)
+        public void report() {
+            long hits = cache.getHitCount();
+            long misses = cache.getMissCount();
+            System.out.printf("%nhit rate %.3f, evictions %d, entries %d, bytes %d%n",
+                    hits / (double) Math.max(1, hits + misses), cache.getEvictionCount(),
+                    cache.size(), cache.getSizeInBytes());
+        }
+
+        String next(Random random) {
+            int i = Arrays.binarySearch(cumulative, random.nextDouble());
+            return strings[Math.min(i < 0 ? -i - 1 : i, distinct - 1)];
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadRandom {
+        final Random random = new Random(Thread.currentThread().threadId());
+    }
+
+    @Benchmark
+    public byte[] cached(Workload w, ThreadRandom r) {
+        return w.cache.getKey(LOCALE, w.next(r.random));
+    }
+
+    @Benchmark
+    public byte[] uncached(Workload w, ThreadRandom r) {
+        return LocaleCollator.transformBytes(LOCALE, w.next(r.random));
+    }
+}
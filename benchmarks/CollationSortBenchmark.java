@@ -0,0 +1,105 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import collation.LocaleCollator;
+
+/**
+ * Compares sorting strings with a comparator that calls
+ * LocaleCollator.compareStrings for every comparison against
+ * LocaleCollator.sort, which computes each binary key once and sorts by key.
+ * A third variant sorts by the String keys of transformString, the
+ * strxfrm-style approach that the binary keys replace.
+ *
+ * <p>Every invocation first copies the unsorted input into a working array;
+ * the copy is the same in all variants and small next to the sort.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+public class CollationSortBenchmark {
+
+    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZéèäöüåçñ";
+
+    @Param({"en-US", "sv-SE"})
+    public String languageTag;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Locale locale;
+    private String[] input;
+    private String[] work;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        locale = Locale.forLanguageTag(languageTag);
+        Random random = new Random(17480);
+        input = new String[size];
+        for (int i = 0; i < size; i++) {
+            // Product-name-like strings: one to three words of 3 to 10 letters.
+            StringBuilder sb = new StringBuilder();
+            int words = 1 + random.nextInt(3);
+            for (int w = 0; w < words; w++) {
+                if (w > 0) {
+                    sb.append(' ');
+                }
+                int length = 3 + random.nextInt(8);
+                for (int c = 0; c < length; c++) {
+                    sb.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+                }
+            }
+            input[i] = sb.toString();
+        }
+        work = new String[size];
+    }
+
+    @Benchmark
+    public String[] comparatorSort() {
+        System.arraycopy(input, 0, work, 0, size);
+        Arrays.sort(work, (a, b) -> LocaleCollator.compareStrings(locale, a, b));
+        return work;
+    }
+
+    @Benchmark
+    public String[] keySort() {
+        System.arraycopy(input, 0, work, 0, size);
+        LocaleCollator.sort(locale, work);
+        return work;
+    }
+
+    @Benchmark
+    public String[] stringKeySort() {
+        System.arraycopy(input, 0, work, 0, size);
+        String[] keys = new String[size];
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = LocaleCollator.transformString(locale, work[i]);
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> keys[a].compareTo(keys[b]));
+        for (int i = 0; i < size; i++) {
+            work[i] = input[order[i]];
+        }
+        return work;
+    }
+}
@@ -0,0 +1,114 @@
+package benchmarks;
+
+import java.text.Collator;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import collation.LocaleCollator;
+
+/**
+ * Measures compareStrings from 64 threads spread over 20 locales, with the
+ * collator cache enabled and disabled, against the uncached approach of
+ * calling Collator.getInstance for every comparison.
+ *
+ * <p>Each invocation makes 10^7 / 64 comparisons on each of the 64 threads,
+ * 10^7 in total, and the threads run together, so the single-shot score is
+ * about the wall time for 10^7 comparisons. The trial teardown prints the
+ * cache hit and miss counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(2)
+@Threads(CollatorCacheBenchmark.THREADS)
+public class CollatorCacheBenchmark {
+
+    static final int THREADS = 64;
+    private static final int PER_THREAD = 10_000_000 / THREADS;
+    private static final int WORDS = 1024;
+
+    private static final Locale[] LOCALES = {
+        Locale.forLanguageTag("en-US"), Locale.forLanguageTag("en-GB"), Locale.forLanguageTag("de-DE"),
+        Locale.forLanguageTag("fr-FR"), Locale.forLanguageTag("es-ES"), Locale.forLanguageTag("it-IT"),
+        Locale.forLanguageTag("nl-NL"), Locale.forLanguageTag("sv-SE"), Locale.forLanguageTag("da-DK"),
+        Locale.forLanguageTag("nb-NO"), Locale.forLanguageTag("fi-FI"), Locale.forLanguageTag("pl-PL"),
+        Locale.forLanguageTag("cs-CZ"), Locale.forLanguageTag("hu-HU"), Locale.forLanguageTag("tr-TR"),
+        Locale.forLanguageTag("pt-BR"), Locale.forLanguageTag("ru-RU"), Locale.forLanguageTag("el-GR"),
+        Locale.forLanguageTag("ja-JP"), Locale.forLanguageTag("zh-CN"),
+    };
+
+    private String[] words;
+
+    /** The collator cache setting; only the LocaleCollator benchmark uses it. */
+    @State(Scope.Benchmark)
+    public static class Cache {
+        @Param({"64", "0"})
+        public int cacheCapacity;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            LocaleCollator.setCacheCapacity(cacheCapacity);
+        }
+
+        @TearDown(Level.Trial)
+        public void report() {
+            System.out.printf("%ncollator cache: %d hits, %d misses%n",
+                    LocaleCollator.getCacheHitCount(), LocaleCollator.getCacheMissCount());
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(17480);
+        words = new String[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = 4 + random.nextInt(12);
+            for (int c = 0; c < length; c++) {
+                sb.append((char) ('a' + random.nextInt(26)));
+            }
+            words[i] = sb.toString();
+        }
+    }
+
+    @Benchmark
+    public int compareStrings(Cache cache) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int sum = 0;
+        for (int i = 0; i < PER_THREAD; i++) {
+            Locale locale = LOCALES[random.nextInt(LOCALES.length)];
+            sum += LocaleCollator.compareStrings(locale, words[random.nextInt(WORDS)], words[random.nextInt(WORDS)]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int collatorPerCall() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int sum = 0;
+        for (int i = 0; i < PER_THREAD; i++) {
+            Locale locale = LOCALES[random.nextInt(LOCALES.length)];
+            sum += Collator.getInstance(locale).compare(words[random.nextInt(WORDS)], words[random.nextInt(WORDS)]);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,149 @@
+package benchmarks;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import rational.RationalNumber;
+
+/**
+ * Compares RationalNumber's decimal and double conversions with the
+ * BigDecimal round trip they replace. Each benchmark converts a table of 1024
+ * values, so scores are per 1024 conversions.
+ *
+ * <p>The decimal strings have up to 10 significant digits and 4 decimal
+ * places, like the ingest data ("12.3450"), so they all take the long path of
+ * {@link RationalNumber#parseDecimal(CharSequence)}. The doubles are multiples
+ * of 2^-10 below 2^19 in magnitude, so their exact decimal expansions have at
+ * most 10 decimal places and the BigDecimal baseline can also build them from
+ * longs. The BigDecimal baselines go through the unscaled value and a power of
+ * ten (into a RationalNumber) or a BigDecimal division (out of one), which is
+ * how the conversions were done before these methods existed.
+ *
+ * <p>Run with {@code -prof gc} to compare allocation per conversion.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConversionBenchmark {
+
+    private static final int COUNT = 1024;
+    private static final int SCALE = 4;
+
+    private String[] decimals;
+    private double[] doubles;
+    private RationalNumber[] values;
+    // The same values as numerator / denominator, for the BigDecimal baselines,
+    // since RationalNumber does not expose its parts.
+    private long[] numerators;
+    private long[] denominators;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(90210);
+        decimals = new String[COUNT];
+        doubles = new double[COUNT];
+        values = new RationalNumber[COUNT];
+        numerators = new long[COUNT];
+        denominators = new long[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            long unscaled = random.nextInt(2_000_000_000) - 1_000_000_000L;
+            decimals[i] = BigDecimal.valueOf(unscaled, SCALE).toPlainString();
+            doubles[i] = (random.nextInt(1 << 30) - (1 << 29)) / 1024.0;
+            values[i] = RationalNumber.parseDecimal(decimals[i]);
+            numerators[i] = unscaled;
+            denominators[i] = 10_000;
+        }
+    }
+
+    @Benchmark
+    public void parseDecimal(Blackhole bh) {
+        for (String s : decimals) {
+            bh.consume(RationalNumber.parseDecimal(s));
+        }
+    }
+
+    @Benchmark
+    public void parseViaBigDecimal(Blackhole bh) {
+        for (String s : decimals) {
+            bh.consume(fromBigDecimal(new BigDecimal(s)));
+        }
+    }
+
+    @Benchmark
+    public void fromDouble(Blackhole bh) {
+        for (double x : doubles) {
+            bh.consume(RationalNumber.fromDouble(x));
+        }
+    }
+
+    @Benchmark
+    public void fromDoubleViaBigDecimal(Blackhole bh) {
+        for (double x : doubles) {
+            // new BigDecimal(double) is exact, like fromDouble.
+            bh.consume(fromBigDecimal(new BigDecimal(x)));
+        }
+    }
+
+    @Benchmark
+    public void toDouble(Blackhole bh) {
+        for (RationalNumber r : values) {
+            bh.consume(r.toDouble());
+        }
+    }
+
+    @Benchmark
+    public void toDoubleViaBigDecimal(Blackhole bh) {
+        for (int i = 0; i < COUNT; i++) {
+            // DECIMAL64 is the usual choice here, although rounding twice
+            // (to 16 digits, then to a double) is not always correctly rounded.
+            BigDecimal q = BigDecimal.valueOf(numerators[i])
+                    .divide(BigDecimal.valueOf(denominators[i]), MathContext.DECIMAL64);
+            bh.consume(q.doubleValue());
+        }
+    }
+
+    @Benchmark
+    public void toDecimalString(Blackhole bh) {
+        for (RationalNumber r : values) {
+            bh.consume(r.toDecimalString(SCALE, RoundingMode.HALF_EVEN));
+        }
+    }
+
+    @Benchmark
+    public void toDecimalStringViaBigDecimal(Blackhole bh) {
+        for (int i = 0; i < COUNT; i++) {
+            BigDecimal q = BigDecimal.valueOf(numerators[i])
+                    .divide(BigDecimal.valueOf(denominators[i]), SCALE, RoundingMode.HALF_EVEN);
+            bh.consume(q.toPlainString());
+        }
+    }
+
+    private static RationalNumber fromBigDecimal(BigDecimal d) {
+        if (d.scale() <= 0) {
+            return new RationalNumber(d.longValueExact());
+        }
+        // Exact for the values in this benchmark; longValueExact would throw
+        // for a value that does not fit.
+        return new RationalNumber(d.unscaledValue().longValueExact(),
+                BigDecimal.TEN.pow(d.scale()).longValueExact());
+    }
+}
@@ -0,0 +1,84 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rational.DenominatorBound;
+import rational.RationalNumber;
+
+/**
+ * Measures the cost of one multiply/divide step of a long chain, after the
+ * chain has already run for a given number of steps, with and without a
+ * DenominatorBound. The score is the time per step at that depth, so the
+ * results read directly as cost against chain length.
+ *
+ * <p>All four constants are prime, so an unbounded chain never reduces and its
+ * denominator grows by about 40 bits per step. Unbounded depths are therefore
+ * capped at 10^4: building a deeper value takes longer than any benchmark run.
+ * With a bound the value stays small, so bounded depths go up to 10^6.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DenominatorBoundBenchmark {
+
+    private static final RationalNumber GROWTH = new RationalNumber(1_000_003, 999_983);
+    private static final RationalNumber DECAY = new RationalNumber(999_979, 1_000_033);
+    private static final DenominatorBound BOUND = DenominatorBound.ofBits(64);
+
+    @State(Scope.Thread)
+    public static class Unbounded {
+        @Param({"100", "1000", "10000"})
+        public int depth;
+
+        RationalNumber x;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            x = new RationalNumber(1);
+            for (int i = 0; i < depth; i++) {
+                x = x.multiply(GROWTH).divide(DECAY);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Bounded {
+        @Param({"100", "10000", "1000000"})
+        public int depth;
+
+        RationalNumber x;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            x = new RationalNumber(1);
+            for (int i = 0; i < depth; i++) {
+                x = x.multiply(GROWTH, BOUND).divide(DECAY, BOUND);
+            }
+        }
+    }
+
+    @Benchmark
+    public RationalNumber unboundedStep(Unbounded state) {
+        return state.x.multiply(GROWTH).divide(DECAY);
+    }
+
+    @Benchmark
+    public RationalNumber boundedStep(Bounded state) {
+        return state.x.multiply(GROWTH, BOUND).divide(DECAY, BOUND);
+    }
+}
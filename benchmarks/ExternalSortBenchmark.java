@@ -0,0 +1,132 @@
+package benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import collation.ExternalCollationSorter;
+
+/**
+ * Sorts generated 1 GB and 10 GB text files with ExternalCollationSorter.
+ *
+ * <p>Each invocation is a whole sort, so the benchmark runs in single-shot
+ * mode with one measured sort per fork. Throughput in MB/s and the peak heap
+ * usage of the sort are not JMH metrics, so they are printed after every
+ * invocation. The peak is the sum of the peaks of the heap memory pools, so
+ * it is an upper bound. The heap limit is set well above the memory budget so
+ * that the peak shows what the sorter actually uses.
+ *
+ * <p>The input, the output and the runs are written under java.io.tmpdir,
+ * which needs about three times the input size in free space; point it at a
+ * large disk with {@code -jvmArgsAppend -Djava.io.tmpdir=...}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ExternalSortBenchmark {
+
+    private static final String WORD_CHARS = "abcdefghijklmnopqrstuvwxyzäöüßéèABCDEFGHIJKLMNOPQRSTUVWXYZÄÖÜ";
+
+    @Param({"1024", "10240"})
+    public long inputMegabytes;
+
+    @Param({"268435456"})
+    public long memoryBudget;
+
+    private Path directory;
+    private Path input;
+    private Path output;
+    private ExternalCollationSorter sorter;
+    private long startNanos;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("external-sort");
+        input = directory.resolve("input.txt");
+        output = directory.resolve("output.txt");
+        long target = inputMegabytes * 1_000_000;
+        Random random = new Random(17480);
+        long written = 0;
+        try (BufferedWriter w = Files.newBufferedWriter(input, StandardCharsets.UTF_8)) {
+            StringBuilder line = new StringBuilder();
+            while (written < target) {
+                line.setLength(0);
+                int words = 1 + random.nextInt(4);
+                for (int i = 0; i < words; i++) {
+                    if (i > 0) {
+                        line.append(' ');
+                    }
+                    int length = 3 + random.nextInt(10);
+                    for (int c = 0; c < length; c++) {
+                        line.append(WORD_CHARS.charAt(random.nextInt(WORD_CHARS.length())));
+                    }
+                }
+                line.append('\n');
+                w.append(line);
+                written += line.toString().getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        sorter = new ExternalCollationSorter(Locale.GERMANY, memoryBudget, directory);
+    }
+
+    @Setup(Level.Invocation)
+    public void startMeasuring() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+        startNanos = System.nanoTime();
+    }
+
+    @Benchmark
+    public int sort() throws IOException {
+        sorter.sort(input, output);
+        return sorter.getRunCount();
+    }
+
+    @TearDown(Level.Invocation)
+    public void report() throws IOException {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        System.out.printf("%n%.1f MB/s, peak heap %d MB, %d runs%n",
+                Files.size(input) / 1e6 / seconds, peak / 1_000_000, sorter.getRunCount());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(output);
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(directory);
+    }
+}
@@ -0,0 +1,107 @@
+package benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import getopt.Getopt;
+import getopt.GetoptBatchRunner;
+
+/**
+ * Compares running 100,000 tool invocations with GetoptBatchRunner against a
+ * sequential loop that parses each argument vector on the calling thread.
+ * Every tenth argument vector contains an unknown option, so error output is
+ * exercised too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 2, jvmArgsAppend = "-Xmx2g")
+public class GetoptBatchRunnerBenchmark {
+
+    private static final int INVOCATIONS = 100_000;
+
+    private Getopt.OptionSpec spec;
+    private List<String[]> argvs;
+    private GetoptBatchRunner runner;
+
+    private static int tool(Getopt g, String[] args, PrintStream err) {
+        int sum = 0;
+        int c;
+        while ((c = g.getOpt()) != -1) {
+            if (c == '?' || c == ':') {
+                return 2;
+            }
+            sum += c;
+        }
+        return sum == 0 ? 1 : 0;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Getopt.LongOption[] longopts = {
+            new Getopt.LongOption("verbose", Getopt.LongOption.NO_ARGUMENT, null, 'v'),
+            new Getopt.LongOption("number", Getopt.LongOption.REQUIRED_ARGUMENT, null, 'n'),
+            new Getopt.LongOption("output", Getopt.LongOption.REQUIRED_ARGUMENT, null, 'o')
+        };
+        spec = Getopt.OptionSpec.compile("vn:o:", longopts);
+        runner = new GetoptBatchRunner(spec, GetoptBatchRunnerBenchmark::tool);
+
+        argvs = new ArrayList<>(INVOCATIONS);
+        for (int i = 0; i < INVOCATIONS; i++) {
+            if (i % 10 == 0) {
+                argvs.add(new String[]{"-v", "-x", "file" + i});
+            } else {
+                argvs.add(new String[]{"--verbose", "-n", Integer.toString(i), "--output", "out" + i, "file" + i});
+            }
+        }
+    }
+
+    /**
+     * Does the same work per invocation as GetoptBatchRunner, a fresh Getopt
+     * cursor and a captured error stream, but on the calling thread.
+     */
+    @Benchmark
+    public int sequential() {
+        int failures = 0;
+        for (String[] args : argvs) {
+            ByteArrayOutputStream captured = new ByteArrayOutputStream();
+            PrintStream err = new PrintStream(captured, true, StandardCharsets.UTF_8);
+            Getopt g = new Getopt(spec);
+            g.setErrorStream(err);
+            g.reset(args);
+            if (tool(g, args, err) != 0 || captured.size() != 0) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    @Benchmark
+    public int batchRunner() throws InterruptedException {
+        int failures = 0;
+        for (GetoptBatchRunner.Result r : runner.runAll(argvs)) {
+            if (r.getExitCode() != 0 || !r.getErrorOutput().isEmpty()) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+}
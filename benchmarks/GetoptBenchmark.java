@@ -0,0 +1,92 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import getopt.Getopt;
+
+/**
+ * Benchmarks for parsing a complete argument vector with Getopt, varying the
+ * number of registered long options and the length of the argument vector.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GetoptBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int optionCount;
+
+    @Param({"4", "64"})
+    public int argCount;
+
+    private String optstring;
+    private Getopt.LongOption[] longOptions;
+    private Getopt.OptionSpec spec;
+    private Getopt reusable;
+    private String[] args;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        optstring = "vn:o:";
+        longOptions = new Getopt.LongOption[optionCount];
+        for (int i = 0; i < optionCount; i++) {
+            int hasArg = i % 2 == 0 ? Getopt.LongOption.NO_ARGUMENT : Getopt.LongOption.REQUIRED_ARGUMENT;
+            longOptions[i] = new Getopt.LongOption("option-" + i, hasArg, null, 1000 + i);
+        }
+        spec = Getopt.OptionSpec.compile(optstring, longOptions);
+        reusable = new Getopt(spec);
+
+        args = new String[argCount];
+        int i = 0;
+        while (i < argCount) {
+            int k = (i * 7) % optionCount;
+            if (k % 2 == 0 || i + 1 == argCount) {
+                args[i++] = k % 2 == 0 ? "--option-" + k : "-v";
+            } else {
+                args[i++] = "--option-" + k;
+                args[i++] = "value";
+            }
+        }
+    }
+
+    @Benchmark
+    public int parseNew() {
+        Getopt g = new Getopt(args, optstring, longOptions);
+        g.setErrorReporting(false);
+        int sum = 0;
+        int c;
+        while ((c = g.getOpt()) != -1) {
+            sum += c;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int parseReused() {
+        Getopt g = reusable;
+        g.setErrorReporting(false);
+        g.reset(args);
+        int sum = 0;
+        int c;
+        while ((c = g.getOpt()) != -1) {
+            sum += c;
+        }
+        return sum;
+    }
+}
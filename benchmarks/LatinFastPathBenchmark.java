@@ -0,0 +1,120 @@
+package benchmarks;
+
+import java.text.Collator;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import collation.LocaleCollator;
+
+/**
+ * Compares LocaleCollator.compareStrings with a prepared java.text.Collator on
+ * an ASCII-heavy corpus of identifiers, where the Latin-1 weight tables apply.
+ *
+ * <p>Before measuring, the setup runs a differential check: it compares
+ * 100,000 random pairs drawn from Latin-1 letters, digits, punctuation and
+ * characters that take part in contractions or expansions in some locale
+ * (such as "ch", "aa", "ß" and "æ"), and fails the run if the sign of
+ * compareStrings ever differs from the full collator's.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LatinFastPathBenchmark {
+
+    private static final int CORPUS = 4096;
+    private static final int FUZZ_PAIRS = 100_000;
+    private static final String IDENTIFIER_CHARS =
+            "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789_-.";
+    private static final String[] FUZZ_PIECES = {
+        "a", "b", "c", "h", "d", "l", "s", "z", "A", "C", "H", "0", "9", " ", "-", "_", ".", "'",
+        "ch", "CH", "ll", "aa", "AA", "ss", "ß", "æ", "Æ", "ø", "å", "ä", "ö", "ü", "é", "è", "ñ", "ç",
+        "\u00a0", "\u00ad", "ÿ",
+    };
+
+    @Param({"en-US", "de-DE", "da-DK", "cs-CZ", "es-ES"})
+    public String languageTag;
+
+    private Locale locale;
+    private Collator collator;
+    private String[] corpus;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        locale = Locale.forLanguageTag(languageTag);
+        collator = Collator.getInstance(locale);
+        Random random = new Random(17480);
+        corpus = new String[CORPUS];
+        for (int i = 0; i < CORPUS; i++) {
+            // Identifiers often share a prefix, such as "order_" or "customer".
+            StringBuilder sb = new StringBuilder(i % 4 == 0 ? "customer_" : "");
+            int length = 4 + random.nextInt(20);
+            for (int c = 0; c < length; c++) {
+                sb.append(IDENTIFIER_CHARS.charAt(random.nextInt(IDENTIFIER_CHARS.length())));
+            }
+            corpus[i] = sb.toString();
+        }
+        checkAgainstCollator(new Random(90210));
+    }
+
+    private void checkAgainstCollator(Random random) {
+        for (int i = 0; i < FUZZ_PAIRS; i++) {
+            String s1 = fuzzString(random);
+            // Half of the pairs share a prefix, so the fast path gets deep
+            // into both strings before they differ.
+            String s2 = random.nextBoolean() ? s1.substring(0, random.nextInt(s1.length() + 1)) + fuzzString(random)
+                    : fuzzString(random);
+            int expected = Integer.signum(collator.compare(s1, s2));
+            int actual = Integer.signum(LocaleCollator.compareStrings(locale, s1, s2));
+            if (expected != actual) {
+                throw new IllegalStateException(String.format(
+                        "%s: compareStrings(\"%s\", \"%s\") is %d but the collator gives %d",
+                        languageTag, s1, s2, actual, expected));
+            }
+        }
+    }
+
+    private static String fuzzString(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int pieces = random.nextInt(8);
+        for (int i = 0; i < pieces; i++) {
+            sb.append(FUZZ_PIECES[random.nextInt(FUZZ_PIECES.length)]);
+        }
+        return sb.toString();
+    }
+
+    private int nextIndex() {
+        int i = next;
+        next = (i + 1) & (CORPUS - 1);
+        return i;
+    }
+
+    @Benchmark
+    public int compareStrings() {
+        int i = nextIndex();
+        return LocaleCollator.compareStrings(locale, corpus[i], corpus[(i + 1) & (CORPUS - 1)]);
+    }
+
+    @Benchmark
+    public int fullCollator() {
+        int i = nextIndex();
+        return collator.compare(corpus[i], corpus[(i + 1) & (CORPUS - 1)]);
+    }
+}
@@ -0,0 +1,71 @@
+package benchmarks;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import collation.LocaleCollator;
+
+/**
+ * Benchmarks for LocaleCollator comparison and key transformation across
+ * locales and string lengths. The two strings share all but their last
+ * character, so a comparison has to walk the whole string.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LocaleCollatorBenchmark {
+
+    @Param({"en-US", "de-DE", "sv-SE", "ja-JP"})
+    public String languageTag;
+
+    @Param({"8", "64", "512"})
+    public int length;
+
+    private Locale locale;
+    private String s1;
+    private String s2;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        locale = Locale.forLanguageTag(languageTag);
+        Random random = new Random(17480);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length - 1; i++) {
+            sb.append((char) ('a' + random.nextInt(26)));
+        }
+        s1 = sb.toString() + "a";
+        s2 = sb.toString() + "b";
+    }
+
+    @Benchmark
+    public int compareStrings() {
+        return LocaleCollator.compareStrings(locale, s1, s2);
+    }
+
+    @Benchmark
+    public String transformString() {
+        return LocaleCollator.transformString(locale, s1);
+    }
+
+    @Benchmark
+    public byte[] transformBytes() {
+        return LocaleCollator.transformBytes(locale, s1);
+    }
+}
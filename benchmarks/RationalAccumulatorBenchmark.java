@@ -0,0 +1,108 @@
+package benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rational.RationalAccumulator;
+import rational.RationalNumber;
+
+/**
+ * Sums 10^6 and 10^8 terms, and takes dot products of the same length, with a
+ * RationalAccumulator and by chaining immutable plus and multiply.
+ *
+ * <p>The terms cycle through a table of 1024 ledger-like amounts: numerators
+ * below 10^6 over denominators that divide 1000, so the running total stays
+ * within longs and both approaches do the same exact arithmetic. Each
+ * invocation is a full sum, so the benchmark runs in single-shot mode.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(2)
+public class RationalAccumulatorBenchmark {
+
+    private static final int TABLE_SIZE = 1024;
+    private static final long[] DENOMINATORS = {1, 2, 4, 5, 8, 10, 20, 25, 40, 50, 100, 1000};
+
+    @Param({"1000000", "100000000"})
+    public long terms;
+
+    private RationalNumber[] xs;
+    private RationalNumber[] ys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(17480);
+        xs = new RationalNumber[TABLE_SIZE];
+        ys = new RationalNumber[TABLE_SIZE];
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            xs[i] = new RationalNumber(random.nextInt(2_000_000) - 1_000_000,
+                    DENOMINATORS[random.nextInt(DENOMINATORS.length)]);
+            ys[i] = new RationalNumber(random.nextInt(200) - 100,
+                    DENOMINATORS[random.nextInt(DENOMINATORS.length)]);
+        }
+        // Both approaches must agree exactly, or the comparison is meaningless.
+        RationalAccumulator sum = new RationalAccumulator();
+        RationalNumber chained = new RationalNumber(0);
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            sum.addProduct(xs[i], ys[i]);
+            chained = chained.plus(xs[i].multiply(ys[i]));
+        }
+        if (!sum.toRational().equals(chained)) {
+            throw new IllegalStateException("accumulator and chained results differ");
+        }
+    }
+
+    @Benchmark
+    public RationalNumber sumAccumulator() {
+        RationalAccumulator sum = new RationalAccumulator();
+        for (long i = 0; i < terms; i++) {
+            sum.add(xs[(int) (i & (TABLE_SIZE - 1))]);
+        }
+        return sum.toRational();
+    }
+
+    @Benchmark
+    public RationalNumber sumChained() {
+        RationalNumber sum = new RationalNumber(0);
+        for (long i = 0; i < terms; i++) {
+            sum = sum.plus(xs[(int) (i & (TABLE_SIZE - 1))]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public RationalNumber dotAccumulator() {
+        RationalAccumulator dot = new RationalAccumulator();
+        for (long i = 0; i < terms; i++) {
+            int j = (int) (i & (TABLE_SIZE - 1));
+            dot.addProduct(xs[j], ys[j]);
+        }
+        return dot.toRational();
+    }
+
+    @Benchmark
+    public RationalNumber dotChained() {
+        RationalNumber dot = new RationalNumber(0);
+        for (long i = 0; i < terms; i++) {
+            int j = (int) (i & (TABLE_SIZE - 1));
+            dot = dot.plus(xs[j].multiply(ys[j]));
+        }
+        return dot;
+    }
+}
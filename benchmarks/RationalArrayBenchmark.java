@@ -0,0 +1,154 @@
+package benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rational.RationalArray;
+import rational.RationalNumber;
+
+/**
+ * Compares RationalArray with a RationalNumber[] holding the same values, for
+ * element-wise, scalar, sum and sort operations.
+ *
+ * <p>Memory per element is not a JMH metric, so the trial setup measures it:
+ * it builds each representation between full collections and prints the
+ * growth of the used heap divided by the number of elements. The figures are
+ * approximate, but the difference between the two is large enough to read.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+public class RationalArrayBenchmark {
+
+    private static final RationalNumber RATE = new RationalNumber(108, 100);
+    private static final RationalNumber ONE = new RationalNumber(1);
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private RationalNumber[] objectsA;
+    private RationalNumber[] objectsB;
+    private RationalArray arrayA;
+    private RationalArray arrayB;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long before = usedHeap();
+        objectsA = randomValues(new Random(17480));
+        long objectBytes = usedHeap() - before;
+        objectsB = randomValues(new Random(17481));
+
+        before = usedHeap();
+        arrayA = RationalArray.of(objectsA);
+        long arrayBytes = usedHeap() - before;
+        arrayB = RationalArray.of(objectsB);
+
+        System.out.printf("%nbytes per element: RationalNumber[] %.1f, RationalArray %.1f%n",
+                objectBytes / (double) size, arrayBytes / (double) size);
+    }
+
+    private RationalNumber[] randomValues(Random random) {
+        RationalNumber[] values = new RationalNumber[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = new RationalNumber(random.nextInt(2_000_000) - 1_000_000, random.nextInt(1000) + 1);
+        }
+        return values;
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    @Benchmark
+    public RationalArray arrayPlus() {
+        return arrayA.plus(arrayB);
+    }
+
+    @Benchmark
+    public RationalNumber[] objectsPlus() {
+        RationalNumber[] result = new RationalNumber[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = objectsA[i].plus(objectsB[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public RationalArray arrayMultiplyScalar() {
+        return arrayA.multiply(RATE);
+    }
+
+    @Benchmark
+    public RationalNumber[] objectsMultiplyScalar() {
+        RationalNumber[] result = new RationalNumber[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = objectsA[i].multiply(RATE);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public RationalNumber arraySum() {
+        return arrayA.sum();
+    }
+
+    @Benchmark
+    public RationalNumber objectsSum() {
+        RationalNumber sum = new RationalNumber(0);
+        for (RationalNumber r : objectsA) {
+            sum = sum.plus(r);
+        }
+        return sum;
+    }
+
+    /**
+     * Fresh unsorted copies for the sort benchmarks, made outside the timed
+     * region before every invocation.
+     */
+    @State(Scope.Thread)
+    public static class SortInput {
+        RationalArray array;
+        RationalNumber[] objects;
+
+        @Setup(Level.Invocation)
+        public void copy(RationalArrayBenchmark b) {
+            array = b.arrayA.multiply(ONE);
+            objects = b.objectsA.clone();
+        }
+    }
+
+    @Benchmark
+    public RationalArray arraySort(SortInput input) {
+        input.array.sort();
+        return input.array;
+    }
+
+    @Benchmark
+    public RationalNumber[] objectsSort(SortInput input) {
+        Arrays.sort(input.objects);
+        return input.objects;
+    }
+}
@@ -0,0 +1,204 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import rational.RationalCodec;
+import rational.RationalNumber;
+
+/**
+ * Measures RationalCodec encoding, decoding and scanning throughput.
+ * Every benchmark processes a whole buffer or file per invocation and adds
+ * its size to the "bytes" auxiliary counter. The benchmarks run in throughput
+ * mode, so that counter's score is in bytes per second; divide by 10^6 for
+ * MB/s.
+ *
+ * <p>The values are mostly small fractions, with one in a hundred built large
+ * enough to need the BigInteger form. Before measuring, the setup decodes
+ * every encoded value and checks it against the original, so a broken
+ * round trip fails the run instead of producing numbers.
+ *
+ * <p>The file benchmark writes a temporary file of fileRecords values (about
+ * 300 MB for 10^8) once per trial and sums it through memory-mapped regions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+public class RationalCodecBenchmark {
+
+    private static final int COUNT = 1_000_000;
+
+    private RationalNumber[] values;
+    private ByteBuffer encoded;
+    private ByteBuffer scratch;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            bytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(17480);
+        values = new RationalNumber[COUNT];
+        int length = 0;
+        for (int i = 0; i < COUNT; i++) {
+            values[i] = randomValue(random, i);
+            length += RationalCodec.encodedLength(values[i]);
+        }
+        encoded = ByteBuffer.allocateDirect(length);
+        scratch = ByteBuffer.allocateDirect(length);
+        for (RationalNumber v : values) {
+            RationalCodec.encode(v, encoded);
+        }
+        encoded.flip();
+        checkRoundTrip();
+    }
+
+    static RationalNumber randomValue(Random random, long i) {
+        RationalNumber r = new RationalNumber(random.nextInt(2_000_000) - 1_000_000, random.nextInt(10_000) + 1);
+        if (i % 100 == 0) {
+            r = r.multiply(new RationalNumber(random.nextLong() | 1, random.nextLong() | 1))
+                    .multiply(new RationalNumber(random.nextLong() | 1, random.nextLong() | 1));
+        }
+        return r;
+    }
+
+    private void checkRoundTrip() {
+        ByteBuffer in = encoded.duplicate();
+        for (int i = 0; i < COUNT; i++) {
+            RationalNumber decoded = RationalCodec.decode(in);
+            if (!decoded.equals(values[i])) {
+                throw new IllegalStateException("record " + i + " does not round-trip");
+            }
+        }
+        if (in.hasRemaining()) {
+            throw new IllegalStateException(in.remaining() + " bytes left after the last record");
+        }
+        RationalCodec.Reader reader = new RationalCodec.Reader(encoded.duplicate());
+        for (int i = 0; i < COUNT; i++) {
+            if (!reader.next() || !reader.get().equals(values[i])) {
+                throw new IllegalStateException("Reader disagrees with decode at record " + i);
+            }
+        }
+        if (reader.next()) {
+            throw new IllegalStateException("Reader found a record after the last one");
+        }
+    }
+
+    @Benchmark
+    public ByteBuffer encode(Bytes bytes) {
+        scratch.clear();
+        for (RationalNumber v : values) {
+            RationalCodec.encode(v, scratch);
+        }
+        bytes.bytes += scratch.position();
+        return scratch;
+    }
+
+    @Benchmark
+    public void decode(Bytes bytes, Blackhole bh) {
+        ByteBuffer in = encoded.duplicate();
+        while (in.hasRemaining()) {
+            bh.consume(RationalCodec.decode(in));
+        }
+        bytes.bytes += encoded.remaining();
+    }
+
+    @Benchmark
+    public long scan(Bytes bytes) {
+        RationalCodec.Reader reader = new RationalCodec.Reader(encoded.duplicate());
+        long integers = 0;
+        while (reader.next()) {
+            if (reader.isLong() && reader.denominator() == 1) {
+                integers++;
+            }
+        }
+        bytes.bytes += encoded.remaining();
+        return integers;
+    }
+
+    @Benchmark
+    public RationalNumber sumBuffer(Bytes bytes) {
+        RationalNumber sum = RationalCodec.sum(encoded.duplicate());
+        bytes.bytes += encoded.remaining();
+        return sum;
+    }
+
+    @State(Scope.Thread)
+    public static class FileInput {
+        @Param({"100000000"})
+        public long fileRecords;
+
+        Path path;
+        FileChannel channel;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            path = Files.createTempFile("rational-codec", ".bin");
+            Iterable<RationalNumber> generated = () -> new Iterator<RationalNumber>() {
+                private final Random random = new Random(17480);
+                private long i;
+
+                @Override
+                public boolean hasNext() {
+                    return i < fileRecords;
+                }
+
+                @Override
+                public RationalNumber next() {
+                    return randomValue(random, i++);
+                }
+            };
+            try (FileChannel out = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                RationalCodec.writeAll(generated, out);
+            }
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            channel.close();
+            Files.delete(path);
+        }
+    }
+
+    @Benchmark
+    public RationalNumber sumFile(FileInput file, Bytes bytes) throws IOException {
+        RationalNumber sum = RationalCodec.sum(file.channel);
+        bytes.bytes += file.channel.size();
+        return sum;
+    }
+}
@@ -0,0 +1,97 @@
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rational.RationalCollectors;
+import rational.RationalNumber;
+
+/**
+ * Measures how the RationalCollectors scale with the number of cores. Each
+ * parallel stream runs inside a ForkJoinPool with the given parallelism, so
+ * the scores for 1, 2, 4, ... threads can be read as a speedup curve; values
+ * above the machine's core count are not expected to scale further.
+ * The sequential reduce with plus is the baseline the collectors replace.
+ *
+ * <p>The values are ledger-like amounts over denominators that divide 1000,
+ * so the sums stay exact without growing without bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+public class RationalCollectorsBenchmark {
+
+    private static final long[] DENOMINATORS = {1, 2, 4, 5, 8, 10, 20, 25, 40, 50, 100, 1000};
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int parallelism;
+
+    @Param({"10000000"})
+    public int count;
+
+    private List<RationalNumber> values;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(17480);
+        values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(new RationalNumber(random.nextInt(2_000_000) - 1_000_000,
+                    DENOMINATORS[random.nextInt(DENOMINATORS.length)]));
+        }
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public RationalNumber sequentialReduce() {
+        return values.stream().reduce(new RationalNumber(0), RationalNumber::plus);
+    }
+
+    @Benchmark
+    public RationalNumber summing() throws InterruptedException, ExecutionException {
+        return pool.submit(() -> values.parallelStream().collect(RationalCollectors.summing())).get();
+    }
+
+    @Benchmark
+    public Optional<RationalNumber> averaging() throws InterruptedException, ExecutionException {
+        return pool.submit(() -> values.parallelStream().collect(RationalCollectors.averaging())).get();
+    }
+
+    @Benchmark
+    public Optional<RationalNumber> min() throws InterruptedException, ExecutionException {
+        return pool.submit(() -> values.parallelStream().collect(RationalCollectors.min())).get();
+    }
+
+    @Benchmark
+    public RationalCollectors.SummaryStatistics summarizing() throws InterruptedException, ExecutionException {
+        return pool.submit(() -> values.parallelStream().collect(RationalCollectors.summarizing())).get();
+    }
+}
@@ -0,0 +1,151 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rational.RationalMatrix;
+import rational.RationalNumber;
+
+/**
+ * Solves random dense systems and computes determinants with RationalMatrix
+ * for sizes from 50 to 1000, and solves the same systems with textbook
+ * Gaussian elimination written with plus, multiply and divide.
+ *
+ * <p>The entries are fractions with one-digit numerators and denominators.
+ * Textbook elimination over fractions grows its entries so quickly that it
+ * is only run up to size 200; above that one solve takes longer than a
+ * benchmark run can reasonably wait. Each invocation is a whole solve, so the
+ * benchmark runs in single-shot mode.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class RationalMatrixBenchmark {
+
+    @State(Scope.Thread)
+    public static class Bareiss {
+        @Param({"50", "100", "200", "500", "1000"})
+        public int size;
+
+        RationalMatrix matrix;
+        RationalNumber[] b;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(17480);
+            matrix = new RationalMatrix(randomEntries(random, size));
+            b = randomVector(random, size);
+        }
+    }
+
+    /**
+     * The same systems as {@link Bareiss} for the sizes they share. The setup
+     * checks that textbook elimination and RationalMatrix agree.
+     */
+    @State(Scope.Thread)
+    public static class Textbook {
+        @Param({"50", "100", "200"})
+        public int size;
+
+        RationalNumber[][] entries;
+        RationalNumber[] b;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(17480);
+            entries = randomEntries(random, size);
+            b = randomVector(random, size);
+            RationalNumber[] expected = new RationalMatrix(entries).solve(b);
+            if (!Arrays.equals(textbookSolve(entries, b), expected)) {
+                throw new IllegalStateException("textbook and Bareiss solutions differ");
+            }
+        }
+    }
+
+    static RationalNumber[][] randomEntries(Random random, int size) {
+        RationalNumber[][] entries = new RationalNumber[size][size];
+        for (RationalNumber[] row : entries) {
+            for (int j = 0; j < size; j++) {
+                row[j] = new RationalNumber(random.nextInt(19) - 9, random.nextInt(9) + 1);
+            }
+        }
+        return entries;
+    }
+
+    static RationalNumber[] randomVector(Random random, int size) {
+        RationalNumber[] v = new RationalNumber[size];
+        for (int i = 0; i < size; i++) {
+            v[i] = new RationalNumber(random.nextInt(19) - 9, random.nextInt(9) + 1);
+        }
+        return v;
+    }
+
+    /** Gaussian elimination over fractions, with back substitution. */
+    static RationalNumber[] textbookSolve(RationalNumber[][] entries, RationalNumber[] b) {
+        int n = b.length;
+        RationalNumber zero = new RationalNumber(0);
+        RationalNumber[][] a = new RationalNumber[n][];
+        for (int i = 0; i < n; i++) {
+            a[i] = Arrays.copyOf(entries[i], n + 1);
+            a[i][n] = b[i];
+        }
+        for (int k = 0; k < n; k++) {
+            int pivot = k;
+            while (a[pivot][k].equals(zero)) {
+                pivot++;
+                if (pivot == n) {
+                    throw new ArithmeticException("singular matrix");
+                }
+            }
+            RationalNumber[] t = a[k];
+            a[k] = a[pivot];
+            a[pivot] = t;
+            for (int i = k + 1; i < n; i++) {
+                RationalNumber factor = a[i][k].divide(a[k][k]);
+                for (int j = k; j <= n; j++) {
+                    a[i][j] = a[i][j].minus(factor.multiply(a[k][j]));
+                }
+            }
+        }
+        RationalNumber[] x = new RationalNumber[n];
+        for (int i = n - 1; i >= 0; i--) {
+            RationalNumber sum = a[i][n];
+            for (int j = i + 1; j < n; j++) {
+                sum = sum.minus(a[i][j].multiply(x[j]));
+            }
+            x[i] = sum.divide(a[i][i]);
+        }
+        return x;
+    }
+
+    @Benchmark
+    public RationalNumber[] solve(Bareiss state) {
+        return state.matrix.solve(state.b);
+    }
+
+    @Benchmark
+    public RationalNumber determinant(Bareiss state) {
+        return state.matrix.determinant();
+    }
+
+    @Benchmark
+    public RationalNumber[] textbookSolve(Textbook state) {
+        return textbookSolve(state.entries, state.b);
+    }
+}
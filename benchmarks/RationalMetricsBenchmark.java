@@ -0,0 +1,70 @@
+package benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rational.RationalNumber;
+
+/**
+ * Measures the overhead of RationalMetrics. The same operation runs in a JVM
+ * with metrics disabled and in one with metrics enabled. The operands are
+ * built exactly as in RationalNumberBenchmark, with the same seed and sizes,
+ * so the disabled result is comparable with RationalNumberBenchmark.plus for
+ * the same size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RationalMetricsBenchmark {
+
+    @Param({"small", "big"})
+    public String size;
+
+    private RationalNumber a;
+    private RationalNumber b;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(17480);
+        a = randomValue(random);
+        b = randomValue(random);
+    }
+
+    private RationalNumber randomValue(Random random) {
+        if (size.equals("small")) {
+            return new RationalNumber(random.nextInt(1_000_000) + 1, random.nextInt(1_000_000) + 1);
+        }
+        RationalNumber r = new RationalNumber(1);
+        for (int i = 0; i < 4; i++) {
+            r = r.multiply(new RationalNumber(random.nextLong() | 1, random.nextLong() | 1));
+        }
+        return r;
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-DRationalNumber.metrics=false")
+    public RationalNumber plusMetricsDisabled() {
+        return a.plus(b);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-DRationalNumber.metrics=true")
+    public RationalNumber plusMetricsEnabled() {
+        return a.plus(b);
+    }
+}
@@ -0,0 +1,94 @@
+package benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rational.RationalNumber;
+
+/**
+ * Benchmarks for RationalNumber arithmetic and comparison.
+ * The "small" size uses fractions whose parts fit comfortably in a long, and
+ * the "big" size uses fractions whose parts are around 256 bits, so both
+ * internal representations are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RationalNumberBenchmark {
+
+    @Param({"small", "big"})
+    public String size;
+
+    private RationalNumber a;
+    private RationalNumber b;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(17480);
+        a = randomValue(random);
+        b = randomValue(random);
+    }
+
+    private RationalNumber randomValue(Random random) {
+        if (size.equals("small")) {
+            return new RationalNumber(random.nextInt(1_000_000) + 1, random.nextInt(1_000_000) + 1);
+        }
+        // Build a large value by repeated multiplication of random long fractions.
+        RationalNumber r = new RationalNumber(1);
+        for (int i = 0; i < 4; i++) {
+            r = r.multiply(new RationalNumber(random.nextLong() | 1, random.nextLong() | 1));
+        }
+        return r;
+    }
+
+    @Benchmark
+    public RationalNumber plus() {
+        return a.plus(b);
+    }
+
+    @Benchmark
+    public RationalNumber minus() {
+        return a.minus(b);
+    }
+
+    @Benchmark
+    public RationalNumber multiply() {
+        return a.multiply(b);
+    }
+
+    @Benchmark
+    public RationalNumber divide() {
+        return a.divide(b);
+    }
+
+    @Benchmark
+    public RationalNumber mod() {
+        return a.mod(b);
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return a.compareTo(b);
+    }
+
+    @Benchmark
+    public boolean isLessThan() {
+        return a.isLessThan(b);
+    }
+}
@@ -0,0 +1,93 @@
+package benchmarks;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rational.RationalNumber;
+
+/**
+ * Sorts arrays of random fractions with RationalNumber.sort, with
+ * Arrays.sort and RationalNumber.comparator(), and with Arrays.sort over
+ * BigInteger numerator/denominator pairs compared by cross-multiplication,
+ * which is the naive approach the comparison fast paths replace.
+ *
+ * <p>Each invocation sorts a fresh copy of the same unsorted data, so the
+ * benchmark runs in single-shot mode; the copy is made in an invocation-level
+ * setup and is not timed. At 10^7 elements the BigInteger pairs alone take
+ * over a gigabyte, hence the larger heap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 2, jvmArgsAppend = "-Xmx8g")
+public class RationalSortBenchmark {
+
+    private static final Comparator<BigInteger[]> CROSS_MULTIPLY =
+            (x, y) -> x[0].multiply(y[1]).compareTo(y[0].multiply(x[1]));
+
+    @Param({"1000000", "10000000"})
+    public int count;
+
+    private RationalNumber[] values;
+    // The same fractions as {numerator, denominator} pairs with a positive
+    // denominator, since RationalNumber does not expose its parts.
+    private BigInteger[][] pairs;
+
+    private RationalNumber[] valuesToSort;
+    private BigInteger[][] pairsToSort;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(17480);
+        values = new RationalNumber[count];
+        pairs = new BigInteger[count][];
+        for (int i = 0; i < count; i++) {
+            long numerator = random.nextInt();
+            long denominator = random.nextInt(1_000_000) + 1;
+            values[i] = new RationalNumber(numerator, denominator);
+            pairs[i] = new BigInteger[] {BigInteger.valueOf(numerator), BigInteger.valueOf(denominator)};
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        valuesToSort = values.clone();
+        pairsToSort = pairs.clone();
+    }
+
+    @Benchmark
+    public RationalNumber[] sort() {
+        RationalNumber.sort(valuesToSort);
+        return valuesToSort;
+    }
+
+    @Benchmark
+    public RationalNumber[] sortWithComparator() {
+        Arrays.sort(valuesToSort, RationalNumber.comparator());
+        return valuesToSort;
+    }
+
+    @Benchmark
+    public BigInteger[][] sortBigIntegerCrossMultiply() {
+        Arrays.sort(pairsToSort, CROSS_MULTIPLY);
+        return pairsToSort;
+    }
+}
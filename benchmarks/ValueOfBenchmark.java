@@ -0,0 +1,114 @@
+package benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rational.RationalNumber;
+
+/**
+ * Compares RationalNumber.valueOf with the constructor for frequently repeated
+ * values. Run with {@code -prof gc}: the allocation rate per operation
+ * (gc.alloc.rate.norm) is the main result, and compare_results.py checks it.
+ *
+ * <p>The "small" workload draws from fractions with numerators and
+ * denominators below 16, which the pre-populated table covers. The "rates"
+ * workload draws from 256 percentage and per-mille rates such as 19/100 and
+ * 825/10000, which only the recent-value cache can serve, so it is run with
+ * that cache disabled and enabled. The contended variants run on 8 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ValueOfBenchmark {
+
+    private static final int COUNT = 1024;
+
+    @Param({"small", "rates"})
+    public String workload;
+
+    @Param({"0", "1024"})
+    public int recentCapacity;
+
+    private long[] numerators;
+    private long[] denominators;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int advance() {
+            int i = next;
+            next = (i + 1) & (COUNT - 1);
+            return i;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RationalNumber.setRecentCacheCapacity(recentCapacity);
+        Random random = new Random(17480);
+        numerators = new long[COUNT];
+        denominators = new long[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            if (workload.equals("small")) {
+                numerators[i] = random.nextInt(31) - 15;
+                denominators[i] = random.nextInt(15) + 1;
+            } else {
+                // 256 distinct rates, each repeated about four times.
+                int rate = random.nextInt(256);
+                numerators[i] = rate % 2 == 0 ? 1 + rate / 2 : 500 + 25 * rate;
+                denominators[i] = rate % 2 == 0 ? 100 : 10_000;
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf("%nvalueOf cache: %d hits, %d misses%n",
+                RationalNumber.getCacheHitCount(), RationalNumber.getCacheMissCount());
+    }
+
+    @Benchmark
+    public RationalNumber constructor(Cursor c) {
+        int i = c.advance();
+        return new RationalNumber(numerators[i], denominators[i]);
+    }
+
+    @Benchmark
+    public RationalNumber valueOf(Cursor c) {
+        int i = c.advance();
+        return RationalNumber.valueOf(numerators[i], denominators[i]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public RationalNumber constructorContended(Cursor c) {
+        int i = c.advance();
+        return new RationalNumber(numerators[i], denominators[i]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public RationalNumber valueOfContended(Cursor c) {
+        int i = c.advance();
+        return RationalNumber.valueOf(numerators[i], denominators[i]);
+    }
+}
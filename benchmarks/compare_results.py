@@ -0,0 +1,119 @@
+#!/usr/bin/env python3
+"""Compare a JMH JSON result file against a stored baseline.
+
+Build the benchmark jar from the repository root and run the benchmarks
+with the GC profiler and JSON output, for example:
+
+    mvn -B package
+    java -jar benchmarks/target/benchmarks.jar -prof gc -rf json -rff current.json
+
+and then compare:
+
+    python3 compare_results.py baseline.json current.json --threshold 0.10
+
+A benchmark is flagged as a regression when its score is worse than the
+baseline by more than the threshold and the difference is larger than the
+combined error of both runs. Scores are compared in the direction given by
+the benchmark mode: lower is better for time-per-operation modes, higher is
+better for throughput. The allocation rate reported by the GC profiler
+(gc.alloc.rate.norm) is compared the same way, with lower being better.
+
+The exit status is 1 if any regression was found, 0 otherwise.
+"""
+
+import argparse
+import json
+import sys
+
+LOWER_IS_BETTER_MODES = {"avgt", "sample", "ss"}
+ALLOC_METRIC = "gc.alloc.rate.norm"
+
+
+def load(path):
+    with open(path, encoding="utf-8") as f:
+        results = json.load(f)
+    by_key = {}
+    for r in results:
+        params = r.get("params") or {}
+        # The same benchmark can be run in several modes (-bm avgt,thrpt),
+        # so the mode is part of the key.
+        key = "%s[%s]" % (r["benchmark"], r["mode"]) + "".join(
+            ":%s=%s" % (k, params[k]) for k in sorted(params))
+        by_key[key] = r
+    return by_key
+
+
+def secondary(result, name):
+    # Older JMH releases prefix profiler metric names with a middle dot,
+    # e.g. "\u00b7gc.alloc.rate.norm".
+    for key, m in (result.get("secondaryMetrics") or {}).items():
+        if key.lstrip("\u00b7") == name:
+            return m
+    return None
+
+
+def metric(result, name=None):
+    m = result["primaryMetric"] if name is None else secondary(result, name)
+    if m is None:
+        return None
+    error = m.get("scoreError")
+    if not isinstance(error, (int, float)) or error != error:
+        error = 0.0
+    return m["score"], error, m["scoreUnit"]
+
+
+def regression(base, cur, lower_is_better, threshold):
+    """Return the relative change if cur is a significant regression, else None.
+
+    A zero baseline has no relative change; there any worsening larger than
+    the combined error is a regression and is reported as an infinite change.
+    This catches, for example, an allocation-free benchmark starting to
+    allocate.
+    """
+    (b, b_err, _), (c, c_err, _) = base, cur
+    worse = c - b if lower_is_better else b - c
+    if worse <= b_err + c_err:
+        return None
+    if b == 0:
+        return float("inf")
+    change = worse / abs(b)
+    return change if change > threshold else None
+
+
+def main():
+    parser = argparse.ArgumentParser(description="Flag JMH regressions against a baseline.")
+    parser.add_argument("baseline")
+    parser.add_argument("current")
+    parser.add_argument("--threshold", type=float, default=0.10,
+                        help="relative slowdown to flag (default 0.10)")
+    args = parser.parse_args()
+
+    baseline = load(args.baseline)
+    current = load(args.current)
+
+    regressions = 0
+    for key in sorted(current):
+        if key not in baseline:
+            print("NEW       %s" % key)
+            continue
+        base, cur = baseline[key], current[key]
+        lower_is_better = cur["mode"] in LOWER_IS_BETTER_MODES
+        checks = [("score", metric(base), metric(cur), lower_is_better),
+                  ("alloc", metric(base, ALLOC_METRIC), metric(cur, ALLOC_METRIC), True)]
+        for label, b, c, lower in checks:
+            if b is None or c is None:
+                continue
+            change = regression(b, c, lower, args.threshold)
+            if change is not None:
+                regressions += 1
+                print("REGRESSED %s [%s] %.4g -> %.4g %s (%+.1f%%)"
+                      % (key, label, b[0], c[0], c[2], change * 100))
+    for key in sorted(set(baseline) - set(current)):
+        print("MISSING   %s" % key)
+
+    print("%d regression(s) in %d benchmark(s)" % (regressions, len(current)))
+    return 1 if regressions else 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
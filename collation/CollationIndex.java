@@ -0,0 +1,119 @@
+package collation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * An immutable set of strings sorted in the collation order of a locale,
+ * supporting range and prefix queries.
+ * The binary collation keys of the strings (see
+ * {@link LocaleCollator#transformBytes(Locale, String)}) are stored in sorted
+ * order in one contiguous byte arena, front-coded in blocks: each key stores
+ * only the bytes that differ from the previous key, and every block starts
+ * with a full key so that queries can binary-search the block heads. The
+ * strings themselves are stored as UTF-8 in a second arena.
+ *
+ * <p>An index can be saved to a file and loaded again by memory-mapping it,
+ * so that a service can start using a large index without reading it into
+ * the heap. This class is safe for use by multiple threads.
+ *
+ * <pre>
+ * CollationIndex index = CollationIndex.build(Locale.forLanguageTag("sv-SE"), names);
+ * List&lt;String&gt; between = index.range("Ma", "Mo");
+ * List&lt;String&gt; starting = index.prefix("Sö");
+ * </pre>
+ */
+public final class CollationIndex {
+
+    private CollationIndex() {}
+
+    /**
+     * Builds an index of a collection of strings. Keys are computed in
+     * parallel for large collections. Duplicate strings are kept once.
+     *
+     * @param locale The locale to use for collation.
+     * @param strings The strings to index.
+     * @return A new index containing the strings.
+     * @throws NullPointerException if locale or strings is null, or strings contains null.
+     */
+    public static CollationIndex build(Locale locale, Collection<String> strings);
+
+    /**
+     * Loads an index previously written by {@link #save(Path)}.
+     * The file is memory-mapped rather than read into the heap, and must not
+     * be modified while the index is in use.
+     *
+     * <p>Queries compute collation keys with the running JVM's collator, so the
+     * stored keys are only usable if they were built with the same collation
+     * rules. The file records the Java runtime version and a hash of the
+     * locale's collation rules that built it, and loading fails if either
+     * differs from the running JVM. Such an index must be rebuilt.
+     *
+     * @param file The file to load.
+     * @return The index stored in the file.
+     * @throws IOException if an I/O error occurs, the file is not a valid index,
+     *         or it was built with a different Java runtime version or
+     *         different collation rules.
+     */
+    public static CollationIndex load(Path file) throws IOException;
+
+    /**
+     * Writes this index to a file so it can later be loaded with {@link #load(Path)}.
+     * The locale of the index, the Java runtime version and a hash of the
+     * locale's collation rules are stored in the file.
+     *
+     * @param file The file to write. It is created or replaced.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void save(Path file) throws IOException;
+
+    /**
+     * Returns the locale whose collation order this index uses.
+     *
+     * @return The locale of this index.
+     */
+    public Locale getLocale();
+
+    /**
+     * Returns the number of strings in this index.
+     *
+     * @return The number of strings.
+     */
+    public int size();
+
+    /**
+     * Returns the string at a position in collation order.
+     *
+     * @param position The zero-based position.
+     * @return The string at that position.
+     * @throws IndexOutOfBoundsException if position is out of range.
+     */
+    public String get(int position);
+
+    /**
+     * Returns all strings s in this index with lower &lt;= s &lt; upper in
+     * collation order, in that order.
+     *
+     * @param lower The inclusive lower bound.
+     * @param upper The exclusive upper bound.
+     * @return An unmodifiable list of the matching strings, possibly empty.
+     * @throws NullPointerException if lower or upper is null.
+     */
+    public List<String> range(String lower, String upper);
+
+    /**
+     * Returns all strings in this index that start with prefix under the
+     * locale's collation rules, in collation order. A string matches if its
+     * leading characters compare equal to prefix at primary strength, so case
+     * and accent differences are ignored but the locale's letters are not: in
+     * Swedish "Öberg" matches the prefix "ö" but not "o".
+     *
+     * @param prefix The prefix to search for.
+     * @return An unmodifiable list of the matching strings, possibly empty.
+     * @throws NullPointerException if prefix is null.
+     */
+    public List<String> prefix(String prefix);
+}
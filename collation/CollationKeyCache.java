@@ -0,0 +1,112 @@
+package collation;
+
+import java.util.Locale;
+
+/**
+ * A concurrent, memory-bounded cache of binary collation keys keyed by locale
+ * and string.
+ * Keys are computed with {@link LocaleCollator#transformBytes(Locale, String)}
+ * on a miss. The cache is bounded by the total number of bytes in its keys and
+ * strings rather than by entry count, and it chooses entries to evict with a
+ * W-TinyLFU policy: a small LRU window admits new entries, and an entry leaving
+ * the window only displaces an entry of the main segmented LRU if a
+ * frequency sketch shows it is used more often. This keeps frequently compared
+ * strings cached under a skewed workload even when a scan of one-off strings
+ * passes through.
+ *
+ * <p>The cache is split into independently locked stripes chosen by the hash of
+ * the (locale, string) pair, and lookups that hit do not take a lock, so it can
+ * be shared by many threads. Installing a cache with
+ * {@link LocaleCollator#setKeyCache(CollationKeyCache)} makes
+ * {@link LocaleCollator#compareStrings(Locale, String, String)}, the sort methods
+ * and {@link LocaleCollator.BoundCollator} consult it automatically.
+ *
+ * <pre>
+ * CollationKeyCache cache = new CollationKeyCache(256L * 1024 * 1024, CollationKeyCache.Retention.STRONG);
+ * LocaleCollator.setKeyCache(cache);
+ * ...
+ * System.out.println("hit rate: " + cache.getHitCount() / (double) (cache.getHitCount() + cache.getMissCount()));
+ * </pre>
+ */
+public final class CollationKeyCache {
+
+    /**
+     * How strongly the cache holds its entries.
+     */
+    public enum Retention {
+        /** Entries are removed only by size-based eviction. */
+        STRONG,
+        /** Entries may also be removed by the garbage collector when memory is low. */
+        SOFT,
+        /**
+         * The cached String is held weakly and its key bytes strongly, so an
+         * entry is removed by the garbage collector once no caller holds the
+         * String instance it was cached under. Lookups still match strings by
+         * value. The key bytes are never weakly held, since callers rarely keep
+         * them and they would be cleared almost immediately.
+         */
+        WEAK
+    }
+
+    /**
+     * Constructs an empty cache.
+     *
+     * @param maxBytes The maximum total size of the cached keys and strings, in bytes.
+     * @param retention How strongly entries are held.
+     * @throws IllegalArgumentException if maxBytes is not positive.
+     * @throws NullPointerException if retention is null.
+     */
+    public CollationKeyCache(long maxBytes, Retention retention);
+
+    /**
+     * Returns the binary collation key of a string in the specified locale,
+     * computing and caching it if it is not already cached.
+     * The returned array is shared with the cache and must not be modified.
+     *
+     * @param locale The locale to use for collation.
+     * @param input The string to transform.
+     * @return The collation key.
+     */
+    public byte[] getKey(Locale locale, String input);
+
+    /**
+     * Removes all entries from the cache. The statistics are not reset.
+     */
+    public void clear();
+
+    /**
+     * Returns the number of lookups that found a cached key.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount();
+
+    /**
+     * Returns the number of lookups that had to compute a key.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount();
+
+    /**
+     * Returns the number of entries removed to stay within the size bound or
+     * cleared by the garbage collector.
+     *
+     * @return The eviction count.
+     */
+    public long getEvictionCount();
+
+    /**
+     * Returns the current number of entries.
+     *
+     * @return The number of cached keys.
+     */
+    public long size();
+
+    /**
+     * Returns the current total size of the cached keys and strings.
+     *
+     * @return The size of the cache contents, in bytes.
+     */
+    public long getSizeInBytes();
+}
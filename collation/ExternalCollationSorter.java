@@ -0,0 +1,72 @@
+package collation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Sorts line-delimited UTF-8 text files that may be larger than memory into
+ * the collation order of a locale, like {@code LC_COLLATE=de_DE sort}.
+ *
+ * <p>The input is read through NIO in chunks that fit the memory budget. Each
+ * chunk is sorted in parallel by the binary collation key of each line (see
+ * {@link LocaleCollator#transformBytes(Locale, String)}), and written to a
+ * temporary run file in which every line is prefixed by its length-prefixed key.
+ * The runs are then merged with a k-way heap merge that compares the stored
+ * keys, so no key is computed twice. Temporary run files are deleted when the
+ * sort finishes, whether or not it succeeds.
+ *
+ * <pre>
+ * ExternalCollationSorter sorter =
+ *     new ExternalCollationSorter(Locale.GERMANY, 512L * 1024 * 1024, tmpDir);
+ * sorter.sort(Path.of("names.txt"), Path.of("names.sorted.txt"));
+ * </pre>
+ *
+ * <p>This class is not thread-safe. Each thread should use its own sorter,
+ * though a single sort uses several threads internally.
+ */
+public final class ExternalCollationSorter {
+
+    /**
+     * Constructs a sorter for the specified locale.
+     *
+     * @param locale The locale to use for collation.
+     * @param memoryBudget The approximate maximum number of bytes of heap used
+     *                     for lines and keys while producing runs.
+     * @param tempDirectory The directory in which to write temporary run files.
+     * @throws NullPointerException if locale or tempDirectory is null.
+     * @throws IllegalArgumentException if memoryBudget is not positive.
+     */
+    public ExternalCollationSorter(Locale locale, long memoryBudget, Path tempDirectory);
+
+    /**
+     * Sets the number of threads used to sort runs. The default is the number
+     * of available processors.
+     *
+     * @param threads The number of threads to use.
+     * @throws IllegalArgumentException if threads is not positive.
+     */
+    public void setParallelism(int threads);
+
+    /**
+     * Sorts the lines of a file into collation order and writes them to another file.
+     * Lines are separated by '\n' and an optional preceding '\r', which is not
+     * kept. Every output line ends with '\n'. Lines that compare equal keep their
+     * input order.
+     *
+     * @param input The file to read.
+     * @param output The file to write. It is created or replaced.
+     * @throws NullPointerException if input or output is null.
+     * @throws IOException if an I/O error occurs or the input is not valid UTF-8.
+     */
+    public void sort(Path input, Path output) throws IOException;
+
+    /**
+     * Returns the number of sorted runs written to disk by the last call to
+     * {@link #sort(Path, Path)}. An input that fits the memory budget is sorted
+     * in a single run.
+     *
+     * @return The number of runs, or 0 if no sort has been performed.
+     */
+    public int getRunCount();
+}
@@ -0,0 +1,61 @@
+package collation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.Collator;
+import java.util.Locale;
+
+public class ExternalCollationSorterClient {
+    public static void main(String[] args) {
+        System.out.println("\nExternal Collation Sort");
+        System.out.println("Command line: " + String.join(" ", args));
+
+        if (args.length != 5) {
+            System.err.println("Usage: <locale> <memory-megabytes> <temp-dir> <input> <output>");
+            System.exit(2);
+        }
+
+        // Accept POSIX-style names such as de_DE as well as BCP 47 tags such as de-DE.
+        Locale locale = Locale.forLanguageTag(args[0].replace('_', '-'));
+        if (locale.getLanguage().isEmpty() || !hasCollator(locale)) {
+            System.err.println("Error: invalid locale: " + args[0]);
+            System.exit(2);
+        }
+
+        long memoryBudget;
+        try {
+            memoryBudget = Math.multiplyExact(Long.parseLong(args[1]), 1024L * 1024);
+        } catch (NumberFormatException | ArithmeticException e) {
+            System.err.println("Error: memory budget must be a number of megabytes");
+            System.exit(2);
+            return;
+        }
+        Path tempDirectory = Path.of(args[2]);
+        Path input = Path.of(args[3]);
+        Path output = Path.of(args[4]);
+
+        try {
+            ExternalCollationSorter sorter = new ExternalCollationSorter(locale, memoryBudget, tempDirectory);
+
+            long start = System.nanoTime();
+            sorter.sort(input, output);
+            long elapsed = System.nanoTime() - start;
+
+            System.out.println("Sorted " + input + " into " + output);
+            System.out.println("  runs: " + sorter.getRunCount());
+            System.out.printf("  time: %.2f s%n", elapsed / 1e9);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static boolean hasCollator(Locale locale) {
+        for (Locale available : Collator.getAvailableLocales()) {
+            if (available.getLanguage().equals(locale.getLanguage())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,246 @@
+package collation;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+/**
+ * A Java utility class for locale-sensitive string collation.
+ * This class provides methods for comparing and transforming strings 
+ * according to the collation rules of a specified locale, similar to 
+ * the C functions strcoll(), strxfrm(), wcscoll(), and wcsxfrm().
+ * 
+ * <pre>
+ * int result = LocaleCollator.compareStrings(Locale.US, "apple", "banana");
+ * String key = LocaleCollator.transformString(Locale.US, "apple");
+ * </pre>
+ *
+ * <p>All methods are safe to call from multiple threads. Looking up and cloning a
+ * {@link java.text.Collator} can cost more than a comparison, so prepared
+ * collators are cached per locale. Because a Collator is not thread-safe, each
+ * thread works on its own clone of the cached prototype. The number of cached
+ * locales is bounded (see {@link #setCacheCapacity(int)}), and the least recently
+ * used locale is evicted when the bound is reached.
+ */
+public final class LocaleCollator {
+
+    private LocaleCollator() {}
+
+    /**
+     * A comparator bound to a single locale, returned by {@link LocaleCollator#forLocale(Locale)}.
+     * The locale is resolved and the collator prepared once, when the object is
+     * created, instead of on every call. Comparisons that need keys use binary
+     * collation keys compared with the JDK's vectorized
+     * {@link java.util.Arrays#mismatch(byte[], byte[])}.
+     * This class is safe for use by multiple threads.
+     */
+    public static final class BoundCollator implements Comparator<String> {
+
+        private BoundCollator() {}
+
+        /**
+         * Returns the locale this comparator is bound to.
+         *
+         * @return The locale used for collation.
+         */
+        public Locale getLocale();
+
+        /**
+         * Compares two strings in the collation order of the bound locale.
+         * This gives the same result as {@link LocaleCollator#compareStrings(Locale, String, String)}.
+         *
+         * @param s1 The first string to compare.
+         * @param s2 The second string to compare.
+         * @return An integer: negative if s1 &lt; s2, zero if s1 == s2,
+         *         positive if s1 &gt; s2 in collation order.
+         */
+        public int compare(String s1, String s2);
+
+        /**
+         * Returns the binary collation key of a string in the bound locale.
+         *
+         * @param input The string to transform.
+         * @return A new array holding the collation key.
+         */
+        public byte[] key(String input);
+
+        /**
+         * Compares two binary collation keys as unsigned bytes, locating the
+         * first difference with {@link java.util.Arrays#mismatch(byte[], byte[])}.
+         *
+         * @param k1 The first key.
+         * @param k2 The second key.
+         * @return An integer: negative if k1 &lt; k2, zero if they are equal,
+         *         positive if k1 &gt; k2.
+         */
+        public static int compareKeys(byte[] k1, byte[] k2);
+
+        /**
+         * Compares two arrays of strings pairwise.
+         * Element i of results is set to the sign (-1, 0 or 1) of
+         * {@code compare(left[i], right[i])}.
+         *
+         * @param left The first strings of each pair.
+         * @param right The second strings of each pair.
+         * @param results The array to store the comparison results in.
+         * @throws IllegalArgumentException if the three arrays have different lengths.
+         */
+        public void compareAll(String[] left, String[] right, int[] results);
+
+        /**
+         * Finds the groups of strings that compare equal in the bound locale.
+         * Each key is computed once and the strings are grouped by key.
+         *
+         * @param strings The strings to search.
+         * @return A list of groups, each holding two or more strings that compare
+         *         equal, in their original relative order. Strings with no
+         *         duplicate are not included.
+         */
+        public List<List<String>> findDuplicates(Collection<String> strings);
+
+        /**
+         * Merge-joins two streams of strings that are each already sorted in the
+         * collation order of the bound locale. For every pair of strings, one
+         * from each stream, that compare equal, onMatch is called with the left
+         * and right string. Each stream is read once.
+         *
+         * @param left The first sorted stream.
+         * @param right The second sorted stream.
+         * @param onMatch The action to perform for each matching pair.
+         * @throws IllegalArgumentException if a stream is found to be out of order.
+         */
+        public void mergeJoin(Iterator<String> left, Iterator<String> right, BiConsumer<String, String> onMatch);
+    }
+
+    /**
+     * Compares two strings based on the collation order of the specified locale.
+     * This method corresponds to the C function `strcoll()`.
+     *
+     * <p>Strings made of Latin-1 characters are compared without allocating,
+     * using primary, secondary and tertiary weight tables computed once per
+     * locale. The comparison falls back to the full collator as soon as it meets
+     * a character outside the tables or one that starts a contraction or
+     * expansion in the locale's rules, so the result is always the same as the
+     * full collator's. The weight tables take precedence over a key cache
+     * installed with {@link #setKeyCache(CollationKeyCache)}: the cache is only
+     * consulted for comparisons that fall back to the full collator.
+     *
+     * @param locale The locale to use for collation.
+     * @param s1 The first string to compare.
+     * @param s2 The second string to compare.
+     * @return An integer: negative if s1 &lt; s2, zero if s1 == s2, 
+     *         positive if s1 &gt; s2 in collation order.
+     */
+    public static int compareStrings(Locale locale, String s1, String s2);
+
+    /**
+     * Transforms a string into a collation key based on the specified locale.
+     * This method corresponds to the C function `strxfrm()`.
+     * The returned collation key is used for comparing strings according to the
+     * collation rules of the specified locale.
+     *
+     * @param locale The locale to use for collation.
+     * @param input The string to transform.
+     * @return A transformed string representing the collation key, to be
+     *          used for ordering and comparing strings in collation order.
+     */
+    public static String transformString(Locale locale, String input);
+
+    /**
+     * Transforms a string into a binary collation key based on the specified locale.
+     * Two keys compare with {@link java.util.Arrays#compareUnsigned(byte[], byte[])}
+     * in the same order as the strings compare with
+     * {@link #compareStrings(Locale, String, String)}.
+     *
+     * @param locale The locale to use for collation.
+     * @param input The string to transform.
+     * @return A new array holding the collation key.
+     */
+    public static byte[] transformBytes(Locale locale, String input);
+
+    /**
+     * Writes the binary collation key of a string into a caller-supplied buffer.
+     * Like the C function `strxfrm()`, this returns the length of the whole key.
+     * If that is greater than the space available, the contents of dest from
+     * offset onwards are unspecified and the call should be repeated with a
+     * larger buffer.
+     *
+     * @param locale The locale to use for collation.
+     * @param input The string to transform.
+     * @param dest The buffer to write the key into.
+     * @param offset The index in dest at which to start writing.
+     * @return The length of the collation key in bytes.
+     * @throws IndexOutOfBoundsException if offset is negative or greater than dest.length.
+     */
+    public static int transformBytes(Locale locale, String input, byte[] dest, int offset);
+
+    /**
+     * Sorts an array of strings in place into the collation order of the specified locale.
+     * Each string's binary collation key is computed exactly once, in parallel
+     * for large arrays, and the strings are then sorted by comparing keys. The
+     * sort is stable.
+     *
+     * @param locale The locale to use for collation.
+     * @param strings The strings to sort.
+     */
+    public static void sort(Locale locale, String[] strings);
+
+    /**
+     * Sorts a list of strings in place into the collation order of the specified locale.
+     * This behaves like {@link #sort(Locale, String[])}.
+     *
+     * @param locale The locale to use for collation.
+     * @param strings The strings to sort.
+     * @throws UnsupportedOperationException if the list does not support the set operation.
+     */
+    public static void sort(Locale locale, List<String> strings);
+
+    /**
+     * Returns a comparator bound to the specified locale, for callers that
+     * compare many strings in the same locale.
+     *
+     * @param locale The locale to use for collation.
+     * @return A comparator for the collation order of the locale.
+     */
+    public static BoundCollator forLocale(Locale locale);
+
+    /**
+     * Sets the maximum number of locales whose prepared collators are cached.
+     * A capacity of zero disables caching, so every call prepares a new collator.
+     * The default capacity is 64.
+     *
+     * @param capacity The maximum number of cached locales.
+     * @throws IllegalArgumentException if capacity is negative.
+     */
+    public static void setCacheCapacity(int capacity);
+
+    /**
+     * Installs a shared cache of collation keys. While a cache is installed,
+     * {@link #compareStrings(Locale, String, String)}, the sort methods and
+     * {@link BoundCollator} look up keys in it instead of recomputing them,
+     * which pays off when the same strings are compared repeatedly.
+     * compareStrings compares Latin-1 strings with its weight tables without
+     * computing keys, so it only uses the cache for the comparisons that fall
+     * back to the full collator.
+     * No key cache is installed by default.
+     *
+     * @param cache The cache to use, or null to stop using a key cache.
+     */
+    public static void setKeyCache(CollationKeyCache cache);
+
+    /**
+     * Returns the number of calls that found a prepared collator in the cache.
+     *
+     * @return The cache hit count since the class was loaded.
+     */
+    public static long getCacheHitCount();
+
+    /**
+     * Returns the number of calls that had to prepare a new collator.
+     *
+     * @return The cache miss count since the class was loaded.
+     */
+    public static long getCacheMissCount();
+}
@@ -1,3 +1,5 @@
+package collation;
+
 import java.util.Locale;
 
 public class LocaleCollatorClient {
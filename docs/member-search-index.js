@@ -1 +1 @@
-memberSearchIndex = [{"p":"<Unnamed>","c":"LocaleCollator","l":"compareStrings(Locale, String, String)","u":"compareStrings(java.util.Locale,java.lang.String,java.lang.String)"},{"p":"<Unnamed>","c":"RationalNumber","l":"divide(RationalNumber)"},{"p":"<Unnamed>","c":"RationalNumber","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"<Unnamed>","c":"Getopt","l":"getErrorOpt()"},{"p":"<Unnamed>","c":"Getopt.LongOption","l":"getHasArg()"},{"p":"<Unnamed>","c":"Getopt","l":"getLongOptIndex()"},{"p":"<Unnamed>","c":"Getopt.LongOption","l":"getName()"},{"p":"<Unnamed>","c":"Getopt","l":"getOpt()"},{"p":"<Unnamed>","c":"Getopt","l":"Getopt(String[], String)","u":"%3Cinit%3E(java.lang.String[],java.lang.String)"},{"p":"<Unnamed>","c":"Getopt","l":"Getopt(String[], String, Getopt.LongOption[])","u":"%3Cinit%3E(java.lang.String[],java.lang.String,Getopt.LongOption[])"},{"p":"<Unnamed>","c":"Getopt","l":"getOptArg()"},{"p":"<Unnamed>","c":"Getopt","l":"getOptIndex()"},{"p":"<Unnamed>","c":"Getopt","l":"hasOption(char)"},{"p":"<Unnamed>","c":"RationalNumber","l":"isGreaterThan(RationalNumber)"},{"p":"<Unnamed>","c":"RationalNumber","l":"isGreaterThanOrEqualTo(RationalNumber)"},{"p":"<Unnamed>","c":"RationalNumber","l":"isLessThan(RationalNumber)"},{"p":"<Unnamed>","c":"RationalNumber","l":"isLessThanOrEqualTo(RationalNumber)"},{"p":"<Unnamed>","c":"Getopt.LongOption","l":"LongOption(String, int, boolean[], int)","u":"%3Cinit%3E(java.lang.String,int,boolean[],int)"},{"p":"<Unnamed>","c":"RationalNumber","l":"minus(RationalNumber)"},{"p":"<Unnamed>","c":"RationalNumber","l":"mod(RationalNumber)"},{"p":"<Unnamed>","c":"RationalNumber","l":"multiply(RationalNumber)"},{"p":"<Unnamed>","c":"Getopt.LongOption","l":"NO_ARGUMENT"},{"p":"<Unnamed>","c":"Getopt.LongOption","l":"OPTIONAL_ARGUMENT"},{"p":"<Unnamed>","c":"RationalNumber","l":"plus(RationalNumber)"},{"p":"<Unnamed>","c":"RationalNumber","l":"RationalNumber(long, long)","u":"%3Cinit%3E(long,long)"},{"p":"<Unnamed>","c":"Getopt.LongOption","l":"REQUIRED_ARGUMENT"},{"p":"<Unnamed>","c":"Getopt","l":"setErrorReporting(boolean)"},{"p":"<Unnamed>","c":"LocaleCollator","l":"transformString(Locale, String)","u":"transformString(java.util.Locale,java.lang.String)"}];updateSearchResults();
\ No newline at end of file
+memberSearchIndex = [{"p":"rational","c":"RationalCollectors.SummaryStatistics","l":"accept(RationalNumber)","u":"accept(rational.RationalNumber)"},{"p":"rational","c":"RationalAccumulator","l":"add(RationalNumber)","u":"add(rational.RationalNumber)"},{"p":"rational","c":"RationalAccumulator","l":"addAll(Iterable<RationalNumber>)","u":"addAll(java.lang.Iterable)"},{"p":"rational","c":"RationalAccumulator","l":"addAll(RationalAccumulator)","u":"addAll(rational.RationalAccumulator)"},{"p":"rational","c":"RationalAccumulator","l":"addProduct(RationalNumber, RationalNumber)","u":"addProduct(rational.RationalNumber,rational.RationalNumber)"},{"p":"rational","c":"RationalCollectors","l":"averaging()"},{"p":"collation","c":"CollationIndex","l":"build(Locale, Collection<String>)","u":"build(java.util.Locale,java.util.Collection)"},{"p":"collation","c":"CollationKeyCache","l":"clear()"},{"p":"collation","c":"CollationKeyCache","l":"CollationKeyCache(long, CollationKeyCache.Retention)","u":"%3Cinit%3E(long,collation.CollationKeyCache.Retention)"},{"p":"rational","c":"RationalMatrix","l":"columns()"},{"p":"rational","c":"RationalCollectors.SummaryStatistics","l":"combine(RationalCollectors.SummaryStatistics)","u":"combine(rational.RationalCollectors.SummaryStatistics)"},{"p":"rational","c":"RationalNumber","l":"comparator()"},{"p":"collation","c":"LocaleCollator.BoundCollator","l":"compare(String, String)","u":"compare(java.lang.String,java.lang.String)"},{"p":"collation","c":"LocaleCollator.BoundCollator","l":"compareAll(String[], String[], int[])","u":"compareAll(java.lang.String[],java.lang.String[],int[])"},{"p":"collation","c":"LocaleCollator.BoundCollator","l":"compareKeys(byte[], byte[])","u":"compareKeys(byte[],byte[])"},{"p":"collation","c":"LocaleCollator","l":"compareStrings(Locale, String, String)","u":"compareStrings(java.util.Locale,java.lang.String,java.lang.String)"},{"p":"rational","c":"RationalNumber","l":"compareTo(RationalNumber)","u":"compareTo(rational.RationalNumber)"},{"p":"getopt","c":"Getopt.OptionSpec","l":"compile(String)","u":"compile(java.lang.String)"},{"p":"getopt","c":"Getopt.OptionSpec","l":"compile(String, Getopt.LongOption[])","u":"compile(java.lang.String,getopt.Getopt.LongOption[])"},{"p":"rational","c":"RationalNumber","l":"continuedFraction()"},{"p":"rational","c":"RationalCodec","l":"decode(ByteBuffer)","u":"decode(java.nio.ByteBuffer)"},{"p":"getopt","c":"Option","l":"defaultValue()"},{"p":"rational","c":"RationalCodec.Reader","l":"denominator()"},{"p":"rational","c":"RationalMatrix","l":"determinant()"},{"p":"rational","c":"RationalMetrics.Operation","l":"DIVIDE"},{"p":"rational","c":"RationalArray","l":"divide(RationalArray)","u":"divide(rational.RationalArray)"},{"p":"rational","c":"RationalArray","l":"divide(RationalNumber)","u":"divide(rational.RationalNumber)"},{"p":"rational","c":"RationalNumber","l":"divide(RationalNumber)","u":"divide(rational.RationalNumber)"},{"p":"rational","c":"RationalNumber","l":"divide(RationalNumber, DenominatorBound)","u":"divide(rational.RationalNumber,rational.DenominatorBound)"},{"p":"rational","c":"RationalCodec","l":"encode(RationalNumber, ByteBuffer)","u":"encode(rational.RationalNumber,java.nio.ByteBuffer)"},{"p":"rational","c":"RationalCodec","l":"encodedLength(RationalNumber)","u":"encodedLength(rational.RationalNumber)"},{"p":"rational","c":"DenominatorBound","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"rational","c":"RationalMatrix","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"rational","c":"RationalNumber","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"collation","c":"ExternalCollationSorter","l":"ExternalCollationSorter(Locale, long, Path)","u":"%3Cinit%3E(java.util.Locale,long,java.nio.file.Path)"},{"p":"collation","c":"LocaleCollator.BoundCollator","l":"findDuplicates(Collection<String>)","u":"findDuplicates(java.util.Collection)"},{"p":"collation","c":"LocaleCollator","l":"forLocale(Locale)","u":"forLocale(java.util.Locale)"},{"p":"rational","c":"RationalNumber","l":"fromDouble(double)"},{"p":"rational","c":"RationalOperationEvent","l":"gcdNanos"},{"p":"rational","c":"RationalCodec.Reader","l":"get()"},{"p":"collation","c":"CollationIndex","l":"get(int)"},{"p":"rational","c":"RationalArray","l":"get(int)"},{"p":"rational","c":"RationalMatrix","l":"get(int, int)","u":"get(int,int)"},{"p":"rational","c":"RationalCollectors.SummaryStatistics","l":"getAverage()"},{"p":"rational","c":"RationalMetrics","l":"getBigIntegerPathCount()"},{"p":"rational","c":"RationalMetricsMXBean","l":"getBigIntegerPathCount()"},{"p":"collation","c":"LocaleCollator","l":"getCacheHitCount()"},{"p":"rational","c":"RationalNumber","l":"getCacheHitCount()"},{"p":"collation","c":"LocaleCollator","l":"getCacheMissCount()"},{"p":"rational","c":"RationalNumber","l":"getCacheMissCount()"},{"p":"rational","c":"RationalCollectors.SummaryStatistics","l":"getCount()"},{"p":"rational","c":"RationalMetricsMXBean","l":"getDivideCount()"},{"p":"getopt","c":"Getopt","l":"getErrorOpt()"},{"p":"getopt","c":"GetoptBatchRunner.Result","l":"getErrorOpt()"},{"p":"getopt","c":"GetoptBatchRunner.Result","l":"getErrorOutput()"},{"p":"collation","c":"CollationKeyCache","l":"getEvictionCount()"},{"p":"getopt","c":"GetoptBatchRunner.Result","l":"getExitCode()"},{"p":"getopt","c":"GetoptBatchRunner.Result","l":"getFailure()"},{"p":"rational","c":"RationalMetrics","l":"getFastPathCount()"},{"p":"rational","c":"RationalMetricsMXBean","l":"getFastPathCount()"},{"p":"rational","c":"RationalMetrics","l":"getGcdNanosHistogram()"},{"p":"rational","c":"RationalMetricsMXBean","l":"getGcdNanosHistogram()"},{"p":"getopt","c":"Getopt.LongOption","l":"getHasArg()"},{"p":"collation","c":"CollationKeyCache","l":"getHitCount()"},{"p":"getopt","c":"GetoptBatchRunner.Result","l":"getIndex()"},{"p":"collation","c":"CollationKeyCache","l":"getKey(Locale, String)","u":"getKey(java.util.Locale,java.lang.String)"},{"p":"getopt","c":"Getopt","l":"getLastError()"},{"p":"collation","c":"CollationIndex","l":"getLocale()"},{"p":"collation","c":"LocaleCollator.BoundCollator","l":"getLocale()"},{"p":"getopt","c":"Getopt","l":"getLongOptIndex()"},{"p":"rational","c":"RationalCollectors.SummaryStatistics","l":"getMax()"},{"p":"rational","c":"DenominatorBound","l":"getMaxDenominator()"},{"p":"rational","c":"RationalCollectors.SummaryStatistics","l":"getMin()"},{"p":"rational","c":"RationalMetricsMXBean","l":"getMinusCount()"},{"p":"collation","c":"CollationKeyCache","l":"getMissCount()"},{"p":"rational","c":"RationalMetricsMXBean","l":"getModCount()"},{"p":"rational","c":"RationalMetricsMXBean","l":"getMultiplyCount()"},{"p":"getopt","c":"Getopt.LongOption","l":"getName()"},{"p":"rational","c":"RationalMetrics","l":"getOperandBitLengthHistogram()"},{"p":"rational","c":"RationalMetricsMXBean","l":"getOperandBitLengthHistogram()"},{"p":"rational","c":"RationalMetrics","l":"getOperationCount(RationalMetrics.Operation)","u":"getOperationCount(rational.RationalMetrics.Operation)"},{"p":"getopt","c":"Getopt","l":"getOpt()"},{"p":"getopt","c":"Getopt","l":"Getopt(Getopt.OptionSpec)","u":"%3Cinit%3E(getopt.Getopt.OptionSpec)"},{"p":"getopt","c":"Getopt","l":"Getopt(String[], String)","u":"%3Cinit%3E(java.lang.String[],java.lang.String)"},{"p":"getopt","c":"Getopt","l":"Getopt(String[], String, Getopt.LongOption[])","u":"%3Cinit%3E(java.lang.String[],java.lang.String,getopt.Getopt.LongOption[])"},{"p":"getopt","c":"Getopt","l":"getOptArg()"},{"p":"getopt","c":"GetoptBatchRunner","l":"GetoptBatchRunner(Getopt.OptionSpec, GetoptBatchRunner.Tool)","u":"%3Cinit%3E(getopt.Getopt.OptionSpec,getopt.GetoptBatchRunner.Tool)"},{"p":"getopt","c":"Getopt","l":"getOptIndex()"},{"p":"getopt","c":"GetoptBatchRunner.Result","l":"getParseError()"},{"p":"rational","c":"RationalMetricsMXBean","l":"getPlusCount()"},{"p":"collation","c":"ExternalCollationSorter","l":"getRunCount()"},{"p":"collation","c":"CollationKeyCache","l":"getSizeInBytes()"},{"p":"rational","c":"RationalCollectors.SummaryStatistics","l":"getSum()"},{"p":"getopt","c":"OptionBinderProcessor","l":"getSupportedSourceVersion()"},{"p":"rational","c":"DenominatorBound","l":"hashCode()"},{"p":"rational","c":"RationalMatrix","l":"hashCode()"},{"p":"rational","c":"RationalNumber","l":"hashCode()"},{"p":"getopt","c":"Getopt","l":"hasOption(char)"},{"p":"rational","c":"RationalMatrix","l":"identity(int)"},{"p":"rational","c":"RationalMatrix","l":"inverse()"},{"p":"rational","c":"RationalMetrics","l":"isEnabled()"},{"p":"rational","c":"RationalNumber","l":"isGreaterThan(RationalNumber)","u":"isGreaterThan(rational.RationalNumber)"},{"p":"rational","c":"RationalNumber","l":"isGreaterThanOrEqualTo(RationalNumber)","u":"isGreaterThanOrEqualTo(rational.RationalNumber)"},{"p":"rational","c":"RationalNumber","l":"isLessThan(RationalNumber)","u":"isLessThan(rational.RationalNumber)"},{"p":"rational","c":"RationalNumber","l":"isLessThanOrEqualTo(RationalNumber)","u":"isLessThanOrEqualTo(rational.RationalNumber)"},{"p":"rational","c":"RationalCodec.Reader","l":"isLong()"},{"p":"collation","c":"LocaleCollator.BoundCollator","l":"key(String)","u":"key(java.lang.String)"},{"p":"rational","c":"RationalOperationEvent","l":"leftBits"},{"p":"rational","c":"RationalArray","l":"length()"},{"p":"rational","c":"RationalNumber","l":"limitDenominator(BigInteger)","u":"limitDenominator(java.math.BigInteger)"},{"p":"rational","c":"RationalNumber","l":"limitDenominator(long)"},{"p":"collation","c":"CollationIndex","l":"load(Path)","u":"load(java.nio.file.Path)"},{"p":"getopt","c":"Option","l":"longName()"},{"p":"getopt","c":"Getopt.LongOption","l":"LongOption(String, int, boolean[], int)","u":"%3Cinit%3E(java.lang.String,int,boolean[],int)"},{"p":"rational","c":"RationalCollectors","l":"max()"},{"p":"collation","c":"LocaleCollator.BoundCollator","l":"mergeJoin(Iterator<String>, Iterator<String>, BiConsumer<String, String>)","u":"mergeJoin(java.util.Iterator,java.util.Iterator,java.util.function.BiConsumer)"},{"p":"rational","c":"RationalCollectors","l":"min()"},{"p":"rational","c":"RationalMetrics.Operation","l":"MINUS"},{"p":"rational","c":"RationalArray","l":"minus(RationalArray)","u":"minus(rational.RationalArray)"},{"p":"rational","c":"RationalArray","l":"minus(RationalNumber)","u":"minus(rational.RationalNumber)"},{"p":"rational","c":"RationalNumber","l":"minus(RationalNumber)","u":"minus(rational.RationalNumber)"},{"p":"rational","c":"RationalNumber","l":"minus(RationalNumber, DenominatorBound)","u":"minus(rational.RationalNumber,rational.DenominatorBound)"},{"p":"rational","c":"RationalMetrics.Operation","l":"MOD"},{"p":"rational","c":"RationalNumber","l":"mod(RationalNumber)","u":"mod(rational.RationalNumber)"},{"p":"rational","c":"RationalMetrics.Operation","l":"MULTIPLY"},{"p":"rational","c":"RationalArray","l":"multiply(RationalArray)","u":"multiply(rational.RationalArray)"},{"p":"rational","c":"RationalMatrix","l":"multiply(RationalMatrix)","u":"multiply(rational.RationalMatrix)"},{"p":"rational","c":"RationalArray","l":"multiply(RationalNumber)","u":"multiply(rational.RationalNumber)"},{"p":"rational","c":"RationalNumber","l":"multiply(RationalNumber)","u":"multiply(rational.RationalNumber)"},{"p":"rational","c":"RationalNumber","l":"multiply(RationalNumber, DenominatorBound)","u":"multiply(rational.RationalNumber,rational.DenominatorBound)"},{"p":"rational","c":"RationalCodec.Reader","l":"next()"},{"p":"getopt","c":"Getopt.LongOption","l":"NO_ARGUMENT"},{"p":"rational","c":"RationalCodec.Reader","l":"numerator()"},{"p":"rational","c":"RationalArray","l":"of(RationalNumber...)","u":"of(rational.RationalNumber...)"},{"p":"rational","c":"DenominatorBound","l":"ofBits(int)"},{"p":"rational","c":"DenominatorBound","l":"ofMaxDenominator(BigInteger)","u":"ofMaxDenominator(java.math.BigInteger)"},{"p":"rational","c":"DenominatorBound","l":"ofMaxDenominator(long)"},{"p":"getopt","c":"Getopt","l":"operands()"},{"p":"rational","c":"RationalOperationEvent","l":"operation"},{"p":"getopt","c":"Getopt.LongOption","l":"OPTIONAL_ARGUMENT"},{"p":"getopt","c":"OptionBinderProcessor","l":"OptionBinderProcessor()","u":"%3Cinit%3E()"},{"p":"rational","c":"RationalNumber","l":"parseDecimal(CharSequence)","u":"parseDecimal(java.lang.CharSequence)"},{"p":"rational","c":"RationalMetrics.Operation","l":"PLUS"},{"p":"rational","c":"RationalArray","l":"plus(RationalArray)","u":"plus(rational.RationalArray)"},{"p":"rational","c":"RationalArray","l":"plus(RationalNumber)","u":"plus(rational.RationalNumber)"},{"p":"rational","c":"RationalNumber","l":"plus(RationalNumber)","u":"plus(rational.RationalNumber)"},{"p":"rational","c":"RationalNumber","l":"plus(RationalNumber, DenominatorBound)","u":"plus(rational.RationalNumber,rational.DenominatorBound)"},{"p":"collation","c":"CollationIndex","l":"prefix(String)","u":"prefix(java.lang.String)"},{"p":"getopt","c":"OptionBinderProcessor","l":"process(Set<? extends TypeElement>, RoundEnvironment)","u":"process(java.util.Set,javax.annotation.processing.RoundEnvironment)"},{"p":"rational","c":"RationalCollectors","l":"product()"},{"p":"collation","c":"CollationIndex","l":"range(String, String)","u":"range(java.lang.String,java.lang.String)"},{"p":"rational","c":"RationalMatrix","l":"rank()"},{"p":"rational","c":"RationalAccumulator","l":"RationalAccumulator()","u":"%3Cinit%3E()"},{"p":"rational","c":"RationalAccumulator","l":"RationalAccumulator(RationalNumber)","u":"%3Cinit%3E(rational.RationalNumber)"},{"p":"rational","c":"RationalArray","l":"RationalArray(int)","u":"%3Cinit%3E(int)"},{"p":"rational","c":"RationalMatrix","l":"RationalMatrix(RationalNumber[][])","u":"%3Cinit%3E(rational.RationalNumber[][])"},{"p":"rational","c":"RationalNumber","l":"RationalNumber(long)","u":"%3Cinit%3E(long)"},{"p":"rational","c":"RationalNumber","l":"RationalNumber(long, long)","u":"%3Cinit%3E(long,long)"},{"p":"rational","c":"RationalOperationEvent","l":"RationalOperationEvent()","u":"%3Cinit%3E()"},{"p":"rational","c":"RationalCodec.Reader","l":"Reader(ByteBuffer)","u":"%3Cinit%3E(java.nio.ByteBuffer)"},{"p":"rational","c":"RationalCodec.Reader","l":"Reader(FileChannel)","u":"%3Cinit%3E(java.nio.channels.FileChannel)"},{"p":"getopt","c":"Getopt.LongOption","l":"REQUIRED_ARGUMENT"},{"p":"getopt","c":"Option","l":"required()"},{"p":"rational","c":"RationalAccumulator","l":"reset()"},{"p":"rational","c":"RationalMetrics","l":"reset()"},{"p":"rational","c":"RationalMetricsMXBean","l":"reset()"},{"p":"getopt","c":"Getopt","l":"reset(String[])","u":"reset(java.lang.String[])"},{"p":"rational","c":"RationalOperationEvent","l":"resultBits"},{"p":"rational","c":"RationalOperationEvent","l":"rightBits"},{"p":"rational","c":"RationalMatrix","l":"rows()"},{"p":"getopt","c":"GetoptBatchRunner.Tool","l":"run(Getopt, String[], PrintStream)","u":"run(getopt.Getopt,java.lang.String[],java.io.PrintStream)"},{"p":"getopt","c":"GetoptBatchRunner","l":"runAll(List<String[]>)","u":"runAll(java.util.List)"},{"p":"collation","c":"CollationIndex","l":"save(Path)","u":"save(java.nio.file.Path)"},{"p":"rational","c":"RationalArray","l":"set(int, long, long)","u":"set(int,long,long)"},{"p":"rational","c":"RationalArray","l":"set(int, RationalNumber)","u":"set(int,rational.RationalNumber)"},{"p":"getopt","c":"Getopt","l":"setArgumentFileExpansion(boolean)"},{"p":"collation","c":"LocaleCollator","l":"setCacheCapacity(int)"},{"p":"getopt","c":"Getopt","l":"setErrorReporting(boolean)"},{"p":"getopt","c":"Getopt","l":"setErrorStream(PrintStream)","u":"setErrorStream(java.io.PrintStream)"},{"p":"rational","c":"RationalMetrics","l":"setEventBitLengthThreshold(int)"},{"p":"collation","c":"LocaleCollator","l":"setKeyCache(CollationKeyCache)","u":"setKeyCache(collation.CollationKeyCache)"},{"p":"getopt","c":"GetoptBatchRunner","l":"setMaxConcurrency(int)"},{"p":"collation","c":"ExternalCollationSorter","l":"setParallelism(int)"},{"p":"rational","c":"RationalNumber","l":"setRecentCacheCapacity(int)"},{"p":"getopt","c":"Option","l":"shortName()"},{"p":"collation","c":"CollationIndex","l":"size()"},{"p":"collation","c":"CollationKeyCache","l":"size()"},{"p":"collation","c":"CollationKeyCache.Retention","l":"SOFT"},{"p":"rational","c":"RationalMatrix","l":"solve(RationalNumber[])","u":"solve(rational.RationalNumber[])"},{"p":"rational","c":"RationalArray","l":"sort()"},{"p":"collation","c":"LocaleCollator","l":"sort(Locale, List<String>)","u":"sort(java.util.Locale,java.util.List)"},{"p":"collation","c":"LocaleCollator","l":"sort(Locale, String[])","u":"sort(java.util.Locale,java.lang.String[])"},{"p":"collation","c":"ExternalCollationSorter","l":"sort(Path, Path)","u":"sort(java.nio.file.Path,java.nio.file.Path)"},{"p":"rational","c":"RationalNumber","l":"sort(RationalNumber[])","u":"sort(rational.RationalNumber[])"},{"p":"collation","c":"CollationKeyCache.Retention","l":"STRONG"},{"p":"rational","c":"RationalAccumulator","l":"subtract(RationalNumber)","u":"subtract(rational.RationalNumber)"},{"p":"rational","c":"RationalArray","l":"sum()"},{"p":"rational","c":"RationalCodec","l":"sum(ByteBuffer)","u":"sum(java.nio.ByteBuffer)"},{"p":"rational","c":"RationalCodec","l":"sum(FileChannel)","u":"sum(java.nio.channels.FileChannel)"},{"p":"rational","c":"RationalCollectors","l":"summarizing()"},{"p":"rational","c":"RationalCollectors.SummaryStatistics","l":"SummaryStatistics()","u":"%3Cinit%3E()"},{"p":"rational","c":"RationalCollectors","l":"summing()"},{"p":"rational","c":"RationalNumber","l":"toDecimalString(int, RoundingMode)","u":"toDecimalString(int,java.math.RoundingMode)"},{"p":"rational","c":"RationalNumber","l":"toDouble()"},{"p":"rational","c":"RationalAccumulator","l":"toRational()"},{"p":"collation","c":"LocaleCollator","l":"transformBytes(Locale, String)","u":"transformBytes(java.util.Locale,java.lang.String)"},{"p":"collation","c":"LocaleCollator","l":"transformBytes(Locale, String, byte[], int)","u":"transformBytes(java.util.Locale,java.lang.String,byte[],int)"},{"p":"collation","c":"LocaleCollator","l":"transformString(Locale, String)","u":"transformString(java.util.Locale,java.lang.String)"},{"p":"rational","c":"RationalNumber","l":"valueOf(long)"},{"p":"rational","c":"RationalNumber","l":"valueOf(long, long)","u":"valueOf(long,long)"},{"p":"collation","c":"CollationKeyCache.Retention","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"rational","c":"RationalMetrics.Operation","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"collation","c":"CollationKeyCache.Retention","l":"values()"},{"p":"rational","c":"RationalMetrics.Operation","l":"values()"},{"p":"collation","c":"CollationKeyCache.Retention","l":"WEAK"},{"p":"rational","c":"RationalCodec","l":"writeAll(Iterable<RationalNumber>, FileChannel)","u":"writeAll(java.lang.Iterable,java.nio.channels.FileChannel)"}];updateSearchResults();
\ No newline at end of file
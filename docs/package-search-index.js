@@ -1 +1 @@
-packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"}];updateSearchResults();
\ No newline at end of file
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"collation"},{"l":"getopt"},{"l":"rational"}];updateSearchResults();
\ No newline at end of file
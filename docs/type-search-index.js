@@ -1 +1 @@
-typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"<Unnamed>","l":"Getopt"},{"p":"<Unnamed>","l":"LocaleCollator"},{"p":"<Unnamed>","l":"Getopt.LongOption"},{"p":"<Unnamed>","l":"RationalNumber"}];updateSearchResults();
\ No newline at end of file
+typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"collation","l":"LocaleCollator.BoundCollator"},{"p":"collation","l":"CollationIndex"},{"p":"collation","l":"CollationKeyCache"},{"p":"rational","l":"DenominatorBound"},{"p":"collation","l":"ExternalCollationSorter"},{"p":"getopt","l":"Getopt"},{"p":"getopt","l":"GetoptBatchRunner"},{"p":"collation","l":"LocaleCollator"},{"p":"getopt","l":"Getopt.LongOption"},{"p":"getopt","l":"Operands"},{"p":"rational","l":"RationalMetrics.Operation"},{"p":"getopt","l":"Option"},{"p":"getopt","l":"OptionBinderProcessor"},{"p":"getopt","l":"Getopt.OptionSpec"},{"p":"rational","l":"RationalAccumulator"},{"p":"rational","l":"RationalArray"},{"p":"rational","l":"RationalCodec"},{"p":"rational","l":"RationalCollectors"},{"p":"rational","l":"RationalMatrix"},{"p":"rational","l":"RationalMetrics"},{"p":"rational","l":"RationalMetricsMXBean"},{"p":"rational","l":"RationalNumber"},{"p":"rational","l":"RationalOperationEvent"},{"p":"rational","l":"RationalCodec.Reader"},{"p":"getopt","l":"GetoptBatchRunner.Result"},{"p":"collation","l":"CollationKeyCache.Retention"},{"p":"rational","l":"RationalCollectors.SummaryStatistics"},{"p":"getopt","l":"GetoptBatchRunner.Tool"}];updateSearchResults();
\ No newline at end of file
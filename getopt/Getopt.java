@@ -1,3 +1,8 @@
+package getopt;
+
+import java.io.PrintStream;
+import java.util.Iterator;
+
 /**
  * A Java implementation of the C getopt() and getopt_long() functions for parsing command-line options.
  * This class provides functionality similar to the GNU C getopt functions,
@@ -35,6 +40,19 @@
  *     }
  * }
  * }</pre>
+ *
+ * <p>Usage example for parsing many argument vectors with the same options:
+ * <pre>{@code
+ * Getopt.OptionSpec spec = Getopt.OptionSpec.compile("ho:", longopts); // shared, thread-safe
+ * Getopt g = new Getopt(spec);                                         // one per thread
+ * for (String[] args : invocations) {
+ *     g.reset(args);
+ *     int c;
+ *     while ((c = g.getOpt()) != -1) {
+ *         ...
+ *     }
+ * }
+ * }</pre>
  */
 public final class Getopt {
 
@@ -84,6 +102,46 @@ public final class Getopt {
         public int getHasArg();
     }
 
+    /**
+     * A compiled, immutable description of the options a program accepts.
+     * Compiling the optstring and long options once and sharing the result
+     * avoids re-parsing them for every argument vector. An OptionSpec is safe
+     * for use by multiple threads, and many Getopt instances can share one.
+     *
+     * <p>Long option names are compiled into a character trie. Resolving an
+     * argument such as {@code --verb} takes time proportional to its length,
+     * however many long options are registered: an exact match is found
+     * directly, and a prefix is accepted only if it leads to a single option.
+     */
+    public static final class OptionSpec {
+
+        private OptionSpec() {}
+
+        /**
+         * Compiles a specification with short options only.
+         *
+         * @param optstring A string containing the legitimate option characters,
+         *                  with the same syntax as for {@link Getopt#Getopt(String[], String)}
+         * @return The compiled specification
+         * @throws IllegalArgumentException if optstring is null or contains
+         *         invalid option specifications
+         */
+        public static OptionSpec compile(String optstring);
+
+        /**
+         * Compiles a specification with both short and long options.
+         * The longOptions array is copied.
+         *
+         * @param optstring A string containing the legitimate short option characters
+         * @param longOptions Array of LongOption objects describing the valid long options
+         * @return The compiled specification
+         * @throws IllegalArgumentException if any parameter is null, if
+         *         optstring contains invalid option specifications, or if two
+         *         long options have the same name
+         */
+        public static OptionSpec compile(String optstring, LongOption[] longOptions);
+    }
+
     /**
      * Constructs a new Getopt object for parsing command-line arguments with short options only.
      *
@@ -100,6 +158,9 @@ public final class Getopt {
 
     /**
      * Constructs a new Getopt object for parsing both short and long options.
+     * If two long options have the same name, the first one in longOptions is
+     * used; only {@link OptionSpec#compile(String, LongOption[])} rejects
+     * duplicate names.
      *
      * @param args The command-line arguments array to be parsed
      * @param optstring A string containing the legitimate short option characters
@@ -109,11 +170,45 @@ public final class Getopt {
      */
     public Getopt(String[] args, String optstring, LongOption[] longOptions);
 
+    /**
+     * Constructs a new Getopt object that parses with a precompiled specification.
+     * The object has no arguments to parse until {@link #reset(String[])} is called;
+     * until then it behaves as if reset with an empty array, so {@link #getOpt()}
+     * returns -1 and {@link #getOptIndex()} returns 0.
+     *
+     * @param spec The compiled option specification
+     * @throws IllegalArgumentException if spec is null
+     */
+    public Getopt(OptionSpec spec);
+
+    /**
+     * Starts parsing a new argument vector, discarding all state from the
+     * previous one, including the options recorded for {@link #hasOption(char)}.
+     * The option specification, the error reporting setting and the stream set
+     * by {@link #setErrorStream(PrintStream)}, and the argument file expansion
+     * setting are kept.
+     * Reusing a Getopt object this way, {@link #getOpt()} and {@link #getOptArg()}
+     * do not allocate for options without arguments or for arguments given as a
+     * separate element of args ("-o value", "--output value"); getOptArg returns
+     * that element itself. An argument attached to its option ("-ovalue",
+     * "--output=value") is returned as a new substring, and reporting an error
+     * or expanding an argument file also allocates.
+     *
+     * @param args The command-line arguments array to be parsed
+     * @throws IllegalArgumentException if args is null
+     */
+    public void reset(String[] args);
+
     /**
      * Parses the next command-line option.
      * If this Getopt instance was constructed without long options and encounters
      * an argument starting with "--", it will stop processing options at that point
      * (treating it and all subsequent arguments as non-options).
+     *
+     * <p>As in GNU getopt_long(), a long option may be abbreviated to any
+     * unique prefix of its name, so {@code --verb} selects {@code --verbose}.
+     * An exact match is always preferred over a prefix match. A prefix shared
+     * by several long options is ambiguous and is reported as an unknown option.
      * 
      * @return Returns an integer representing either:
      *         - The ASCII value of the short option character found
@@ -121,6 +216,11 @@ public final class Getopt {
      *         - -1 when the argument list is exhausted or a non-option argument is found
      *         - '?' (ASCII 63) when an unknown option is found or an option is missing its argument
      *         - ':' (ASCII 58) when an option is missing its argument and optstring begins with ':'
+     * @throws java.io.UncheckedIOException if argument file expansion is enabled and an
+     *         argument file cannot be read
+     * @throws IllegalArgumentException if argument file expansion is enabled and an
+     *         argument file refers back to a file already being read, or leaves a
+     *         quote unterminated
      */
     public int getOpt();
 
@@ -136,18 +236,69 @@ public final class Getopt {
      * Returns the current index in the argument array.
      * After getopt() has processed all options, this value indicates where the
      * remaining non-option arguments begin in the args array.
+     * If argument file expansion is enabled (see
+     * {@link #setArgumentFileExpansion(boolean)}), the index is a position in the
+     * expanded argument sequence instead and does not index the args array; use
+     * {@link #operands()} to read the remaining non-option arguments.
      *
      * @return The index of the next element of the args array to be processed
      */
     public int getOptIndex();
 
     /**
-     * Controls whether error messages are printed to stderr.
+     * Controls whether error messages are printed to the error stream set by
+     * {@link #setErrorStream(PrintStream)}, which is System.err by default.
      * 
      * @param enable true to enable error reporting (default), false to disable
      */
     public void setErrorReporting(boolean enable);
 
+    /**
+     * Sets the stream that error messages are printed to when error reporting
+     * is enabled. This lets programs that run many parsers at once give each
+     * its own destination instead of sharing stderr.
+     *
+     * @param err The stream to print error messages to (default System.err)
+     * @throws IllegalArgumentException if err is null
+     */
+    public void setErrorStream(PrintStream err);
+
+    /**
+     * Controls whether arguments of the form {@code @path} are expanded.
+     * When enabled, an argument beginning with '@' is replaced by the arguments
+     * read from the named file, which may itself contain further {@code @path}
+     * arguments. Files are read through a buffered NIO channel and tokenized
+     * incrementally as parsing reaches them, so memory use does not depend on
+     * their size. Within a file, arguments are separated by whitespace; text in
+     * single or double quotes is kept as one argument, and a backslash escapes
+     * the next character. An argument consisting of '@' alone, and every
+     * argument after "--", is never expanded. Expansion is disabled by default
+     * and must be set before the first call to {@link #getOpt()}. The setting is
+     * kept by {@link #reset(String[])}, so a reused cursor expands every
+     * argument vector it is reset to.
+     *
+     * <p>With expansion enabled, {@link #getOptIndex()} counts positions in the
+     * expanded argument sequence rather than in the args array, so the
+     * remaining non-option arguments should be read with {@link #operands()}.
+     *
+     * @param enable true to expand {@code @path} arguments, false to treat them literally (default)
+     * @throws IllegalStateException if parsing has already started
+     */
+    public void setArgumentFileExpansion(boolean enable);
+
+    /**
+     * Returns an iterator over the non-option arguments that remain after
+     * {@link #getOpt()} has returned -1, in order. If argument file expansion is
+     * enabled, the arguments are read from their files as the iterator advances;
+     * the iterator throws {@link java.io.UncheckedIOException} if a file cannot be
+     * read, and {@link IllegalArgumentException} if a file refers back to a file
+     * already being read or leaves a quote unterminated.
+     *
+     * @return An iterator over the remaining non-option arguments
+     * @throws IllegalStateException if getOpt() has not yet returned -1
+     */
+    public Iterator<String> operands();
+
     /**
      * Returns the ASCII value of the option character that caused the last error.
      * When getOpt() returns '?' or ':', this value contains the ASCII value
@@ -157,6 +308,16 @@ public final class Getopt {
      */
     public int getErrorOpt();
 
+    /**
+     * Returns the error value returned by the most recent failing call to getOpt().
+     * The value is kept until {@link #reset(String[])} is called, even if later
+     * options parse successfully.
+     *
+     * @return '?' or ':' if getOpt() has reported an error for the current
+     *         argument vector, or 0 if it has not
+     */
+    public int getLastError();
+
     /**
      * Returns the index of the matched long option in the long options array.
      * Only meaningful after getOpt() has returned a long option value.
@@ -168,6 +329,7 @@ public final class Getopt {
 
     /**
      * Checks if a particular option was encountered during parsing.
+     * Options are recorded in a fixed-size bitset, so this check does not allocate.
      *
      * @param option the option character to check
      * @return true if the option was found during parsing, false otherwise
@@ -0,0 +1,139 @@
+package getopt;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Runs many invocations of a command-line tool in the same JVM, each on its own
+ * virtual thread.
+ * Every invocation gets a fresh {@link Getopt} cursor built from one shared,
+ * precompiled {@link Getopt.OptionSpec}, and its own error stream in place of
+ * System.err, so concurrent invocations neither share parser state nor
+ * contend on stderr. When an invocation finishes, its exit code, any option
+ * parsing error, its error output and any exception it threw are collected in
+ * a {@link Result}.
+ *
+ * <p>Usage example:
+ * <pre>{@code
+ * Getopt.OptionSpec spec = Getopt.OptionSpec.compile("vn:o:", longopts);
+ * GetoptBatchRunner runner = new GetoptBatchRunner(spec, (g, args, err) -> {
+ *     int c;
+ *     while ((c = g.getOpt()) != -1) {
+ *         switch (c) {
+ *             case 'v': ... break;
+ *             case '?': return 2;
+ *         }
+ *     }
+ *     return 0;
+ * });
+ * List<GetoptBatchRunner.Result> results = runner.runAll(argvs);
+ * }</pre>
+ *
+ * <p>Virtual threads require Java 21 or later. A GetoptBatchRunner may be used
+ * by several threads at once.
+ */
+public final class GetoptBatchRunner {
+
+    /**
+     * The body of a tool, equivalent to its main method.
+     */
+    @FunctionalInterface
+    public interface Tool {
+
+        /**
+         * Runs one invocation of the tool.
+         *
+         * @param g A Getopt cursor already reset to args, with error messages
+         *          directed to err
+         * @param args The argument vector of this invocation
+         * @param err The stream to write error messages to
+         * @return The exit code of the invocation
+         * @throws Exception if the invocation fails; the exception is recorded in its Result
+         */
+        int run(Getopt g, String[] args, PrintStream err) throws Exception;
+    }
+
+    /**
+     * The outcome of one invocation.
+     * This class is immutable.
+     */
+    public static final class Result {
+
+        private Result() {}
+
+        /**
+         * Returns the position of this invocation in the list passed to {@link #runAll(List)}.
+         *
+         * @return The index of the invocation
+         */
+        public int getIndex();
+
+        /**
+         * Returns the exit code returned by the tool.
+         *
+         * @return The exit code, or -1 if the tool threw an exception
+         */
+        public int getExitCode();
+
+        /**
+         * Returns the option parsing error reported by the invocation's Getopt cursor,
+         * as given by {@link Getopt#getLastError()}.
+         *
+         * @return '?' or ':' if getOpt() reported an error, or 0 if it did not
+         */
+        public int getParseError();
+
+        /**
+         * Returns the option character that caused the parsing error, as given by
+         * {@link Getopt#getErrorOpt()}.
+         *
+         * @return The ASCII value of the option character, or 0 if there was no parsing error
+         */
+        public int getErrorOpt();
+
+        /**
+         * Returns everything the invocation wrote to its error stream, including
+         * error messages printed by Getopt.
+         *
+         * @return The error output, or an empty string if there was none
+         */
+        public String getErrorOutput();
+
+        /**
+         * Returns the exception thrown by the tool.
+         *
+         * @return The exception, or null if the tool returned normally
+         */
+        public Throwable getFailure();
+    }
+
+    /**
+     * Constructs a runner for a tool.
+     *
+     * @param spec The compiled option specification shared by all invocations
+     * @param tool The tool to run
+     * @throws IllegalArgumentException if spec or tool is null
+     */
+    public GetoptBatchRunner(Getopt.OptionSpec spec, Tool tool);
+
+    /**
+     * Limits the number of invocations that run at the same time, for tools
+     * whose file work should not all happen at once. By default there is no limit.
+     *
+     * @param max The maximum number of concurrent invocations
+     * @throws IllegalArgumentException if max is not positive
+     */
+    public void setMaxConcurrency(int max);
+
+    /**
+     * Runs one invocation per argument vector and waits for all of them to finish.
+     * An exception thrown by one invocation does not affect the others.
+     *
+     * @param argvs The argument vectors to run the tool with
+     * @return The results, in the same order as argvs
+     * @throws IllegalArgumentException if argvs is null or contains null
+     * @throws InterruptedException if the calling thread is interrupted while waiting;
+     *         invocations still running are then interrupted
+     */
+    public List<Result> runAll(List<String[]> argvs) throws InterruptedException;
+}
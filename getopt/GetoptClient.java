@@ -1,3 +1,5 @@
+package getopt;
+
 
 import java.util.ArrayList;
 import java.util.List;
@@ -0,0 +1,21 @@
+package getopt;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares that a record component or field receives the non-option arguments
+ * that remain after option parsing. The generated binder fills the member from
+ * {@link Getopt#operands()} rather than by indexing the args array, so operands
+ * read from {@code @path} argument files are included.
+ * The member must be a {@code List} of {@code String} or {@link java.nio.file.Path}.
+ * At most one member of a type may have this annotation.
+ *
+ * @see Option
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.RECORD_COMPONENT, ElementType.FIELD})
+public @interface Operands {
+}
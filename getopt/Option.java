@@ -0,0 +1,76 @@
+package getopt;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares that a record component or field receives the value of a command-line option.
+ * At compile time {@link OptionBinderProcessor} generates, for each record or
+ * class with annotated members, a binder class named after it with the suffix
+ * {@code Binder}. The binder builds the optstring and {@link Getopt.LongOption}
+ * array from the annotations, drives {@link Getopt#getOpt()} in a loop and
+ * converts each argument, exactly as a hand-written loop would. It uses no
+ * reflection, so startup costs the same as a hand-written loop.
+ *
+ * <p>The type of the annotated member determines how its argument is handled:
+ * <ul>
+ * <li>{@code boolean}: the option takes no argument and sets the member to true</li>
+ * <li>{@code int}, {@code long}: the argument is parsed as a decimal number</li>
+ * <li>{@code String}: the argument is used as is</li>
+ * <li>an enum type: the argument is matched against the constant names, ignoring case</li>
+ * <li>{@link java.nio.file.Path}: the argument is converted with {@link java.nio.file.Path#of(String, String...)}</li>
+ * <li>{@code List} of any of the types above except boolean: the option may be
+ *     repeated and each argument is added in order</li>
+ * </ul>
+ *
+ * <p>Usage example:
+ * <pre>{@code
+ * record ToolOptions(
+ *     @Option(shortName = 'v', longName = "verbose") boolean verbose,
+ *     @Option(shortName = 'n', longName = "number", defaultValue = "1") int number,
+ *     @Option(shortName = 'o', longName = "output", required = true) Path output,
+ *     @Operands List<Path> files) {}
+ *
+ * ToolOptions opts = ToolOptionsBinder.parse(args);
+ * }</pre>
+ *
+ * <p>The generated {@code parse(String[] args)} method throws
+ * {@link IllegalArgumentException} with a message naming the option if an
+ * option is unknown, is missing its argument, is required but absent, or has
+ * an argument that cannot be converted.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.RECORD_COMPONENT, ElementType.FIELD})
+public @interface Option {
+
+    /**
+     * The short option character, or '\0' if the option has no short form.
+     *
+     * @return The short option character
+     */
+    char shortName() default '\0';
+
+    /**
+     * The long option name without leading '--', or "" if the option has no long form.
+     *
+     * @return The long option name
+     */
+    String longName() default "";
+
+    /**
+     * Whether the option must be given. A required option cannot be a {@code boolean}.
+     *
+     * @return true if the option is required
+     */
+    boolean required() default false;
+
+    /**
+     * The argument text to convert when the option is not given, or "" to use
+     * the type's default value (false, 0, null or an empty list).
+     *
+     * @return The default argument text
+     */
+    String defaultValue() default "";
+}
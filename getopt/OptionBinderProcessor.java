@@ -0,0 +1,51 @@
+package getopt;
+
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * An annotation processor that generates reflection-free option binders for
+ * types whose members are annotated with {@link Option} and {@link Operands}.
+ *
+ * <p>For a record or class {@code T}, the processor writes a source file for a
+ * final class {@code TBinder} in the same package with a single method,
+ * {@code public static T parse(String[] args)}. For a record, the binder
+ * collects the values into local variables and calls the canonical constructor.
+ * For a class, the annotated fields must not be private or final, and the class
+ * must have a no-argument constructor.
+ *
+ * <p>Invalid declarations are reported as compile errors on the offending
+ * member: an unsupported type, an option with neither a short nor a long name,
+ * two options with the same name, a required boolean, or more than one
+ * {@link Operands} member.
+ *
+ * <p>To use the processor, put it on the annotation processor path of javac:
+ * <pre>{@code
+ * javac -processorpath getopt.jar -processor getopt.OptionBinderProcessor ToolOptions.java
+ * }</pre>
+ */
+@SupportedAnnotationTypes({"getopt.Option", "getopt.Operands"})
+public final class OptionBinderProcessor extends AbstractProcessor {
+
+    /**
+     * Returns the latest source version supported by the running compiler.
+     *
+     * @return The latest supported source version
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion();
+
+    /**
+     * Generates a binder for every type with members annotated in this round.
+     *
+     * @param annotations The annotation types requested to be processed
+     * @param roundEnv The environment for information about the current round
+     * @return true, since the Option and Operands annotations are claimed by this processor
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv);
+}
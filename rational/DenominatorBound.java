@@ -0,0 +1,73 @@
+package rational;
+
+import java.math.BigInteger;
+
+/**
+ * A limit on the size of the denominator of a {@link RationalNumber}, used to
+ * keep long chains of arithmetic from growing without bound.
+ * A result whose denominator exceeds the limit is replaced by its best rational
+ * approximation with a denominator within the limit (see
+ * {@link RationalNumber#limitDenominator(BigInteger)}). This plays the same role
+ * for RationalNumber that {@link java.math.MathContext} plays for
+ * {@link java.math.BigDecimal}.
+ * This class is immutable.
+ *
+ * Example uses:
+ * <pre>
+ * DenominatorBound bound = DenominatorBound.ofMaxDenominator(1_000_000);
+ * RationalNumber x = new RationalNumber(1);
+ * for (int i = 0; i &lt; 1_000_000; i++) {
+ *     x = x.multiply(factor, bound);    // denominator stays at most 10^6
+ * }
+ * </pre>
+ */
+public final class DenominatorBound {
+    private final BigInteger maxDenominator;
+
+    private DenominatorBound(BigInteger maxDenominator);
+
+    /**
+     * Returns a bound allowing denominators up to maxDenominator.
+     * @param maxDenominator the largest allowed denominator
+     * @return a DenominatorBound with the given limit
+     * @throws IllegalArgumentException if maxDenominator is less than 1
+     */
+    public static DenominatorBound ofMaxDenominator(long maxDenominator);
+
+    /**
+     * Returns a bound allowing denominators up to maxDenominator.
+     * @param maxDenominator the largest allowed denominator
+     * @return a DenominatorBound with the given limit
+     * @throws NullPointerException if maxDenominator is null
+     * @throws IllegalArgumentException if maxDenominator is less than 1
+     */
+    public static DenominatorBound ofMaxDenominator(BigInteger maxDenominator);
+
+    /**
+     * Returns a bound allowing denominators of at most the given bit length,
+     * that is, up to 2^bits - 1.
+     * @param bits the largest allowed denominator bit length
+     * @return a DenominatorBound with the given limit
+     * @throws IllegalArgumentException if bits is less than 1
+     */
+    public static DenominatorBound ofBits(int bits);
+
+    /**
+     * Returns the largest denominator allowed by this bound.
+     * @return the maximum denominator
+     */
+    public BigInteger getMaxDenominator();
+
+    /**
+     * Checks if this DenominatorBound is equal to another DenominatorBound.
+     * @param obj the object to compare to
+     * @return true if obj is a DenominatorBound with the same maximum denominator
+     */
+    public boolean equals(Object obj);
+
+    /**
+     * Returns a hash code for this DenominatorBound, consistent with {@link #equals(Object)}.
+     * @return the hash code of the maximum denominator
+     */
+    public int hashCode();
+}
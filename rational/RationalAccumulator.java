@@ -0,0 +1,104 @@
+package rational;
+
+/**
+ * A mutable accumulator for summing many {@link RationalNumber} values.
+ * Chaining {@code a.plus(b)} creates a new immutable RationalNumber and reduces
+ * it to lowest terms on every step. A RationalAccumulator instead keeps a single
+ * unreduced numerator and denominator and only reduces them lazily, either when
+ * their size passes an internal threshold or when {@link #toRational()} is called.
+ *
+ * <p>The value returned by {@link #toRational()} is always equal to the value
+ * obtained by chaining {@link RationalNumber#plus(RationalNumber)},
+ * {@link RationalNumber#minus(RationalNumber)} and
+ * {@link RationalNumber#multiply(RationalNumber)} over the same operands in the
+ * same order, since both are reduced to the same canonical form.
+ *
+ * <p>This class is not thread-safe. Each thread should use its own RationalAccumulator.
+ *
+ * Example uses:
+ * <pre>
+ * // Sum of many values
+ * RationalAccumulator sum = new RationalAccumulator();
+ * for (RationalNumber r : values) {
+ *     sum.add(r);
+ * }
+ * RationalNumber total = sum.toRational();
+ *
+ * // Dot product of two vectors
+ * RationalAccumulator dot = new RationalAccumulator();
+ * for (int i = 0; i &lt; xs.length; i++) {
+ *     dot.addProduct(xs[i], ys[i]);
+ * }
+ * RationalNumber result = dot.toRational();
+ * </pre>
+ */
+public final class RationalAccumulator {
+
+    /**
+     * Creates an accumulator whose initial value is zero.
+     */
+    public RationalAccumulator();
+
+    /**
+     * Creates an accumulator whose initial value is the given number.
+     * @param initial the initial value
+     * @throws NullPointerException if initial is null
+     */
+    public RationalAccumulator(RationalNumber initial);
+
+    /**
+     * Adds n to the current value of this accumulator.
+     * @param n the number to add
+     * @return this accumulator
+     * @throws NullPointerException if n is null
+     */
+    public RationalAccumulator add(RationalNumber n);
+
+    /**
+     * Subtracts n from the current value of this accumulator.
+     * @param n the number to subtract
+     * @return this accumulator
+     * @throws NullPointerException if n is null
+     */
+    public RationalAccumulator subtract(RationalNumber n);
+
+    /**
+     * Adds the product x × y to the current value of this accumulator.
+     * The product is not reduced or materialized as a separate RationalNumber.
+     * @param x the first factor
+     * @param y the second factor
+     * @return this accumulator
+     * @throws NullPointerException if x or y is null
+     */
+    public RationalAccumulator addProduct(RationalNumber x, RationalNumber y);
+
+    /**
+     * Adds every number in values to the current value of this accumulator,
+     * in iteration order.
+     * @param values the numbers to add
+     * @return this accumulator
+     * @throws NullPointerException if values is null or contains a null element
+     */
+    public RationalAccumulator addAll(Iterable<RationalNumber> values);
+
+    /**
+     * Adds the current value of another accumulator to this accumulator.
+     * The other accumulator is not modified.
+     * @param other the accumulator whose value is added
+     * @return this accumulator
+     * @throws NullPointerException if other is null
+     */
+    public RationalAccumulator addAll(RationalAccumulator other);
+
+    /**
+     * Resets the value of this accumulator to zero so it can be reused.
+     */
+    public void reset();
+
+    /**
+     * Returns the current value of this accumulator as a RationalNumber in
+     * reduced form. The accumulator keeps its value and can continue to be used.
+     * @return the current value
+     */
+    public RationalNumber toRational();
+}
@@ -0,0 +1,165 @@
+package rational;
+
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * A fixed-length array of rational numbers stored in columnar form.
+ * Storing many values as {@code RationalNumber[]} costs an object per element
+ * plus its numerator and denominator. A RationalArray instead stores the reduced
+ * numerators and denominators in two parallel {@code long[]} arrays. The rare
+ * elements that do not fit in a long are kept in an overflow side-table keyed
+ * by index.
+ *
+ * <p>Bulk operations work directly on the primitive arrays and never create a
+ * RationalNumber per element. A RationalNumber is only created when the caller
+ * asks for one with {@link #get(int)} or {@link #sum()}.
+ *
+ * <p>This class is not thread-safe. Bulk operations return a new RationalArray
+ * and leave their operands unchanged; only {@link #set(int, RationalNumber)},
+ * {@link #set(int, long, long)} and {@link #sort()} modify an array in place.
+ *
+ * Example uses:
+ * <pre>
+ * RationalArray prices = new RationalArray(1_000_000);
+ * prices.set(0, 299, 100);                               // 299/100
+ * RationalArray taxed = prices.multiply(new RationalNumber(108, 100));
+ * RationalNumber total = taxed.sum();
+ * </pre>
+ */
+public final class RationalArray {
+    private final long[] numerators;
+    private final long[] denominators;
+    // Elements that do not fit in longs; their slots in the long arrays are unused.
+    private final Map<Integer, BigInteger[]> overflow;
+
+    /**
+     * Creates a RationalArray of the given length with every element equal to zero.
+     * @param length the number of elements
+     * @throws IllegalArgumentException if length is negative
+     */
+    public RationalArray(int length);
+
+    /**
+     * Creates a RationalArray holding the given values in order.
+     * @param values the values to copy
+     * @return a new RationalArray with the same elements as values
+     * @throws NullPointerException if values is null or contains a null element
+     */
+    public static RationalArray of(RationalNumber... values);
+
+    /**
+     * Returns the number of elements in this array.
+     * @return the length of this array
+     */
+    public int length();
+
+    /**
+     * Returns the element at the given index as a RationalNumber.
+     * @param index the element index
+     * @return the element at index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public RationalNumber get(int index);
+
+    /**
+     * Replaces the element at the given index.
+     * @param index the element index
+     * @param value the new value
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws NullPointerException if value is null
+     */
+    public void set(int index, RationalNumber value);
+
+    /**
+     * Replaces the element at the given index with numerator/denominator,
+     * reduced to lowest terms, without creating a RationalNumber.
+     * @param index the element index
+     * @param numerator the numerator
+     * @param denominator the denominator
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws ArithmeticException if denominator is zero
+     */
+    public void set(int index, long numerator, long denominator);
+
+    /**
+     * Returns a new RationalArray whose elements are the element-wise sums of this and other.
+     * @param other the array to add
+     * @return a new RationalArray where element i is this[i] + other[i]
+     * @throws NullPointerException if other is null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public RationalArray plus(RationalArray other);
+
+    /**
+     * Returns a new RationalArray whose elements are the element-wise differences of this and other.
+     * @param other the array to subtract
+     * @return a new RationalArray where element i is this[i] - other[i]
+     * @throws NullPointerException if other is null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public RationalArray minus(RationalArray other);
+
+    /**
+     * Returns a new RationalArray whose elements are the element-wise products of this and other.
+     * @param other the array to multiply by
+     * @return a new RationalArray where element i is this[i] × other[i]
+     * @throws NullPointerException if other is null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public RationalArray multiply(RationalArray other);
+
+    /**
+     * Returns a new RationalArray whose elements are the element-wise quotients of this and other.
+     * @param other the array to divide by
+     * @return a new RationalArray where element i is this[i] ÷ other[i]
+     * @throws NullPointerException if other is null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws ArithmeticException if any element of other is zero
+     */
+    public RationalArray divide(RationalArray other);
+
+    /**
+     * Returns a new RationalArray with n added to every element.
+     * @param n the number to add
+     * @return a new RationalArray where element i is this[i] + n
+     * @throws NullPointerException if n is null
+     */
+    public RationalArray plus(RationalNumber n);
+
+    /**
+     * Returns a new RationalArray with n subtracted from every element.
+     * @param n the number to subtract
+     * @return a new RationalArray where element i is this[i] - n
+     * @throws NullPointerException if n is null
+     */
+    public RationalArray minus(RationalNumber n);
+
+    /**
+     * Returns a new RationalArray with every element multiplied by n.
+     * @param n the number to multiply by
+     * @return a new RationalArray where element i is this[i] × n
+     * @throws NullPointerException if n is null
+     */
+    public RationalArray multiply(RationalNumber n);
+
+    /**
+     * Returns a new RationalArray with every element divided by n.
+     * @param n the number to divide by
+     * @return a new RationalArray where element i is this[i] ÷ n
+     * @throws NullPointerException if n is null
+     * @throws ArithmeticException if n is zero
+     */
+    public RationalArray divide(RationalNumber n);
+
+    /**
+     * Returns the exact sum of all elements, or zero if this array is empty.
+     * @return the sum of the elements
+     */
+    public RationalNumber sum();
+
+    /**
+     * Sorts the elements of this array into ascending numerical order, in place.
+     */
+    public void sort();
+}
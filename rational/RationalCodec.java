@@ -0,0 +1,192 @@
+package rational;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A Java utility class for reading and writing {@link RationalNumber} values in
+ * a compact binary format.
+ * Each value is written in reduced form as a self-delimiting record:
+ * <ul>
+ * <li>If the numerator and denominator both fit in a long, the record is the
+ *     denominator as an unsigned LEB128 varint (always at least 1), followed by
+ *     the numerator as a zig-zag encoded varint. Small fractions such as 1/2 or
+ *     -3/100 take two or three bytes.</li>
+ * <li>Otherwise the record is a single 0 byte (a denominator of zero never
+ *     occurs in the first form), followed by the numerator and then the
+ *     denominator, each written as a varint length and that many bytes of
+ *     big-endian two's-complement value, as returned by
+ *     {@link java.math.BigInteger#toByteArray()}.</li>
+ * </ul>
+ * A stream of values is simply a concatenation of records with no header.
+ *
+ * <p>{@link Reader} walks the records of a buffer, or of a whole
+ * {@link FileChannel} through successive memory-mapped regions, in place. For
+ * values in the long form it exposes the numerator and denominator as
+ * primitives, so a file of many values can be scanned or summed without
+ * creating a RationalNumber per element.
+ *
+ * <pre>
+ * ByteBuffer buf = ByteBuffer.allocate(1024);
+ * RationalCodec.encode(new RationalNumber(1, 2), buf);
+ * buf.flip();
+ * RationalNumber half = RationalCodec.decode(buf);
+ *
+ * try (FileChannel ch = FileChannel.open(path)) {
+ *     RationalCodec.Reader r = new RationalCodec.Reader(ch);
+ *     long count = 0;
+ *     while (r.next()) {
+ *         if (r.isLong() &amp;&amp; r.denominator() == 1) {
+ *             count++;                          // integers, without creating objects
+ *         }
+ *     }
+ * }
+ * </pre>
+ */
+public final class RationalCodec {
+
+    private RationalCodec() {}
+
+    /**
+     * A cursor over encoded records in a ByteBuffer or a file.
+     * A reader over a buffer advances the buffer's position as it reads and
+     * does not copy its contents. A reader over a file maps the file one region
+     * at a time, so files larger than 2 GB can be read, and it carries a record
+     * that straddles the end of a region over into the next one.
+     * This class is not thread-safe.
+     */
+    public static final class Reader {
+
+        /**
+         * Constructs a Reader over the remaining bytes of a buffer.
+         *
+         * @param buffer The buffer to read records from, starting at its position
+         * @throws NullPointerException if buffer is null
+         */
+        public Reader(ByteBuffer buffer);
+
+        /**
+         * Constructs a Reader over a whole file, from position zero to its size.
+         * The file is read through read-only memory-mapped regions; records
+         * that cross a region boundary are reassembled, so the reader sees
+         * every record exactly once. The channel is not closed by the reader,
+         * and the file must not be modified while it is being read.
+         *
+         * @param channel The channel to read records from
+         * @throws NullPointerException if channel is null
+         * @throws IOException if the first region cannot be mapped
+         */
+        public Reader(FileChannel channel) throws IOException;
+
+        /**
+         * Advances to the next record.
+         *
+         * @return true if a record was read, false if the buffer or file has no remaining bytes
+         * @throws IllegalArgumentException if the record is malformed or truncated
+         * @throws java.io.UncheckedIOException if reading a file and the next region cannot be mapped
+         */
+        public boolean next();
+
+        /**
+         * Checks whether the current record is in the long form.
+         *
+         * @return true if {@link #numerator()} and {@link #denominator()} can be used
+         *         for the current record
+         * @throws IllegalStateException if {@link #next()} has not returned true
+         */
+        public boolean isLong();
+
+        /**
+         * Returns the numerator of the current record.
+         *
+         * @return The numerator of the current record
+         * @throws IllegalStateException if there is no current record or it is not in the long form
+         */
+        public long numerator();
+
+        /**
+         * Returns the denominator of the current record. It is always positive.
+         *
+         * @return The denominator of the current record
+         * @throws IllegalStateException if there is no current record or it is not in the long form
+         */
+        public long denominator();
+
+        /**
+         * Returns the current record as a RationalNumber. This works for both forms.
+         *
+         * @return The value of the current record
+         * @throws IllegalStateException if there is no current record
+         */
+        public RationalNumber get();
+    }
+
+    /**
+     * Returns the number of bytes needed to encode a value.
+     *
+     * @param n The value to measure
+     * @return The length of the encoded record in bytes
+     * @throws NullPointerException if n is null
+     */
+    public static int encodedLength(RationalNumber n);
+
+    /**
+     * Writes a value at the buffer's current position and advances the position.
+     *
+     * @param n The value to write
+     * @param buffer The buffer to write to
+     * @throws NullPointerException if n or buffer is null
+     * @throws java.nio.BufferOverflowException if the buffer does not have
+     *         {@link #encodedLength(RationalNumber)} bytes remaining; the buffer
+     *         position is then unchanged
+     */
+    public static void encode(RationalNumber n, ByteBuffer buffer);
+
+    /**
+     * Reads one value at the buffer's current position and advances the position.
+     *
+     * @param buffer The buffer to read from
+     * @return The decoded value
+     * @throws NullPointerException if buffer is null
+     * @throws IllegalArgumentException if the record is malformed or truncated
+     */
+    public static RationalNumber decode(ByteBuffer buffer);
+
+    /**
+     * Writes every value in order to a channel, starting at its current position.
+     *
+     * @param values The values to write
+     * @param channel The channel to write to
+     * @return The number of bytes written
+     * @throws NullPointerException if values or channel is null, or values contains a null element
+     * @throws IOException if an I/O error occurs
+     */
+    public static long writeAll(Iterable<RationalNumber> values, FileChannel channel) throws IOException;
+
+    /**
+     * Returns the exact sum of all records remaining in a buffer.
+     * Records in the long form are added without creating a RationalNumber each.
+     *
+     * @param buffer The buffer to read from; its position is advanced to its limit
+     * @return The sum of the records, or zero if there are none
+     * @throws NullPointerException if buffer is null
+     * @throws IllegalArgumentException if a record is malformed or truncated
+     */
+    public static RationalNumber sum(ByteBuffer buffer);
+
+    /**
+     * Returns the exact sum of all records in a file.
+     * The file is read through memory-mapped regions, so it is not loaded into
+     * the heap, and records in the long form are added without creating a
+     * RationalNumber each. This is equivalent to summing the records of a
+     * {@link Reader} over the channel.
+     *
+     * @param channel The channel to read from, from position zero to its size
+     * @return The sum of the records, or zero if the file is empty
+     * @throws NullPointerException if channel is null
+     * @throws IllegalArgumentException if a record is malformed or truncated
+     * @throws IOException if an I/O error occurs
+     */
+    public static RationalNumber sum(FileChannel channel) throws IOException;
+}
@@ -0,0 +1,142 @@
+package rational;
+
+import java.util.Optional;
+import java.util.stream.Collector;
+
+/**
+ * A Java utility class of {@link Collector} implementations for streams of
+ * {@link RationalNumber} values.
+ * All collectors are safe to use with parallel streams. For {@link #summing()},
+ * {@link #averaging()} and {@link #summarizing()}, each partial sum is kept in a
+ * {@link RationalAccumulator}, so elements are added without reducing by gcd at
+ * every step, and the combiners merge two partial sums with a single
+ * cross-multiplication. {@link #product()} multiplies partial products with
+ * {@link RationalNumber#multiply(RationalNumber)}, and {@link #min()} and
+ * {@link #max()} keep the current extreme element. Under fork-join splitting
+ * the partial results are combined pairwise, which keeps intermediate
+ * numerators and denominators small compared to a left-to-right sequential
+ * reduction.
+ *
+ * <pre>
+ * RationalNumber total = values.parallelStream().collect(RationalCollectors.summing());
+ * Optional&lt;RationalNumber&gt; smallest = values.stream().collect(RationalCollectors.min());
+ * RationalCollectors.SummaryStatistics stats =
+ *     values.parallelStream().collect(RationalCollectors.summarizing());
+ * </pre>
+ */
+public final class RationalCollectors {
+
+    private RationalCollectors() {}
+
+    /**
+     * Collects summary statistics (count, sum, minimum, maximum and average)
+     * for a stream of RationalNumber values.
+     * This class is mutable and is not thread-safe; parallel streams give each
+     * thread its own instance and merge them with {@link #combine(SummaryStatistics)}.
+     */
+    public static final class SummaryStatistics {
+
+        /**
+         * Constructs an empty SummaryStatistics with a count of zero.
+         */
+        public SummaryStatistics();
+
+        /**
+         * Records a new value into the summary.
+         *
+         * @param n the value to record
+         * @throws NullPointerException if n is null
+         */
+        public void accept(RationalNumber n);
+
+        /**
+         * Merges the state of another SummaryStatistics into this one.
+         *
+         * @param other the other statistics to merge
+         * @throws NullPointerException if other is null
+         */
+        public void combine(SummaryStatistics other);
+
+        /**
+         * Returns the number of values recorded.
+         *
+         * @return the count of values
+         */
+        public long getCount();
+
+        /**
+         * Returns the exact sum of the values recorded, or zero if none were recorded.
+         *
+         * @return the sum of values
+         */
+        public RationalNumber getSum();
+
+        /**
+         * Returns the smallest value recorded.
+         *
+         * @return the minimum value, or an empty Optional if no values were recorded
+         */
+        public Optional<RationalNumber> getMin();
+
+        /**
+         * Returns the largest value recorded.
+         *
+         * @return the maximum value, or an empty Optional if no values were recorded
+         */
+        public Optional<RationalNumber> getMax();
+
+        /**
+         * Returns the exact arithmetic mean of the values recorded.
+         *
+         * @return the average, or an empty Optional if no values were recorded
+         */
+        public Optional<RationalNumber> getAverage();
+    }
+
+    /**
+     * Returns a Collector that produces the exact sum of the input elements.
+     * If there are no elements the result is zero.
+     *
+     * @return a Collector that sums RationalNumber values
+     */
+    public static Collector<RationalNumber, ?, RationalNumber> summing();
+
+    /**
+     * Returns a Collector that produces the exact arithmetic mean of the input elements.
+     *
+     * @return a Collector producing the average, or an empty Optional if there are no elements
+     */
+    public static Collector<RationalNumber, ?, Optional<RationalNumber>> averaging();
+
+    /**
+     * Returns a Collector that produces the exact product of the input elements.
+     * If there are no elements the result is one.
+     *
+     * @return a Collector that multiplies RationalNumber values
+     */
+    public static Collector<RationalNumber, ?, RationalNumber> product();
+
+    /**
+     * Returns a Collector that produces the smallest input element, as
+     * determined by {@link RationalNumber#isLessThan(RationalNumber)}.
+     *
+     * @return a Collector producing the minimum, or an empty Optional if there are no elements
+     */
+    public static Collector<RationalNumber, ?, Optional<RationalNumber>> min();
+
+    /**
+     * Returns a Collector that produces the largest input element, as
+     * determined by {@link RationalNumber#isLessThan(RationalNumber)}.
+     *
+     * @return a Collector producing the maximum, or an empty Optional if there are no elements
+     */
+    public static Collector<RationalNumber, ?, Optional<RationalNumber>> max();
+
+    /**
+     * Returns a Collector that records the count, sum, minimum, maximum and
+     * average of the input elements in a single pass.
+     *
+     * @return a Collector producing SummaryStatistics for the input elements
+     */
+    public static Collector<RationalNumber, ?, SummaryStatistics> summarizing();
+}
@@ -0,0 +1,129 @@
+package rational;
+
+/**
+ * A class that represents a matrix of rational numbers with exact linear-algebra
+ * operations.
+ * Determinants, rank, inverses and solutions of linear systems are computed with
+ * fraction-free (Bareiss) elimination. The rows are first scaled to integers
+ * by clearing denominators; each elimination step then divides exactly by the
+ * previous pivot, so entries grow only linearly in size rather than
+ * exponentially as with textbook elimination over fractions. Entries that fit
+ * in a long use the same overflow-checked long arithmetic as
+ * {@link RationalNumber}, and the row updates of each elimination step are
+ * distributed over the common fork-join pool for large matrices.
+ * This class is immutable - all operations return new instances.
+ *
+ * Example uses:
+ * <pre>
+ * RationalMatrix a = new RationalMatrix(new RationalNumber[][] {
+ *     { new RationalNumber(2), new RationalNumber(1) },
+ *     { new RationalNumber(1), new RationalNumber(3) }
+ * });
+ * RationalNumber det = a.determinant();            // 5
+ * RationalNumber[] x = a.solve(new RationalNumber[] {
+ *     new RationalNumber(3), new RationalNumber(4)
+ * });                                              // { 1, 1 }
+ * RationalMatrix inv = a.inverse();
+ * </pre>
+ */
+public final class RationalMatrix {
+    private final int rows;
+    private final int columns;
+    private final RationalNumber[] entries;
+
+    /**
+     * Creates a matrix from a rectangular array of entries, given row by row.
+     * The array is copied.
+     * @param entries the entries of the matrix
+     * @throws NullPointerException if entries, any row, or any entry is null
+     * @throws IllegalArgumentException if there are no rows, no columns, or the
+     *         rows have different lengths
+     */
+    public RationalMatrix(RationalNumber[][] entries);
+
+    /**
+     * Returns the n × n identity matrix.
+     * @param n the number of rows and columns
+     * @return the identity matrix of size n
+     * @throws IllegalArgumentException if n is not positive
+     */
+    public static RationalMatrix identity(int n);
+
+    /**
+     * Returns the number of rows in this matrix.
+     * @return the number of rows
+     */
+    public int rows();
+
+    /**
+     * Returns the number of columns in this matrix.
+     * @return the number of columns
+     */
+    public int columns();
+
+    /**
+     * Returns the entry at the given row and column.
+     * @param row the zero-based row index
+     * @param column the zero-based column index
+     * @return the entry at (row, column)
+     * @throws IndexOutOfBoundsException if row or column is out of range
+     */
+    public RationalNumber get(int row, int column);
+
+    /**
+     * Returns a new RationalMatrix that is the product of this and m.
+     * @param m the matrix to multiply by
+     * @return a new RationalMatrix representing this × m
+     * @throws NullPointerException if m is null
+     * @throws IllegalArgumentException if the number of columns of this matrix
+     *         differs from the number of rows of m
+     */
+    public RationalMatrix multiply(RationalMatrix m);
+
+    /**
+     * Returns the determinant of this matrix.
+     * @return the exact determinant
+     * @throws IllegalStateException if this matrix is not square
+     */
+    public RationalNumber determinant();
+
+    /**
+     * Returns the rank of this matrix, the number of linearly independent rows.
+     * @return the rank
+     */
+    public int rank();
+
+    /**
+     * Returns the inverse of this matrix.
+     * @return a new RationalMatrix representing the inverse of this
+     * @throws IllegalStateException if this matrix is not square
+     * @throws ArithmeticException if this matrix is singular
+     */
+    public RationalMatrix inverse();
+
+    /**
+     * Solves the linear system this × x = b for x.
+     * @param b the right-hand side, with one entry per row of this matrix
+     * @return a new array holding the unique solution x
+     * @throws NullPointerException if b or any of its entries is null
+     * @throws IllegalStateException if this matrix is not square
+     * @throws IllegalArgumentException if b.length differs from the number of rows
+     * @throws ArithmeticException if this matrix is singular
+     */
+    public RationalNumber[] solve(RationalNumber[] b);
+
+    /**
+     * Checks if this RationalMatrix is equal to another RationalMatrix.
+     * @param obj the object to compare to
+     * @return true if obj is a RationalMatrix with the same dimensions and equal entries
+     */
+    public boolean equals(Object obj);
+
+    /**
+     * Returns a hash code for this RationalMatrix, computed from its dimensions
+     * and the hash codes of its entries in row-major order, so that equal
+     * matrices have equal hash codes.
+     * @return a hash code for this matrix
+     */
+    public int hashCode();
+}
@@ -0,0 +1,100 @@
+package rational;
+
+/**
+ * Optional instrumentation of {@link RationalNumber} arithmetic.
+ * Metrics are enabled by starting the JVM with the system property
+ * {@code -DRationalNumber.metrics=true}. The property is read once, into a
+ * static final field, when this class is loaded. When metrics are disabled the
+ * JIT compiler removes every instrumentation branch from the arithmetic
+ * methods, so they cost nothing.
+ *
+ * <p>When metrics are enabled, RationalNumber counts calls to each operation,
+ * counts how many completed on the long fast path and how many needed
+ * BigInteger arithmetic, and records histograms of operand bit lengths and of
+ * the time spent in gcd reduction. Counters are striped per thread, in the
+ * manner of {@link java.util.concurrent.atomic.LongAdder}, so recording does not
+ * contend between threads. The metrics are available from the static methods of
+ * this class and through JMX (see {@link RationalMetricsMXBean}). In addition, a
+ * {@link RationalOperationEvent} is emitted to JDK Flight Recorder for every
+ * operation whose operands exceed a configurable bit length, so that slow
+ * operations on large values can be found in a recording.
+ *
+ * <pre>
+ * // java -DRationalNumber.metrics=true ...
+ * long bigOps = RationalMetrics.getBigIntegerPathCount();
+ * long[] sizes = RationalMetrics.getOperandBitLengthHistogram();
+ * </pre>
+ */
+public final class RationalMetrics {
+
+    private RationalMetrics() {}
+
+    /**
+     * An arithmetic operation of RationalNumber that is counted separately.
+     */
+    public enum Operation {
+        /** {@link RationalNumber#plus(RationalNumber)} */
+        PLUS,
+        /** {@link RationalNumber#minus(RationalNumber)} */
+        MINUS,
+        /** {@link RationalNumber#multiply(RationalNumber)} */
+        MULTIPLY,
+        /** {@link RationalNumber#divide(RationalNumber)} */
+        DIVIDE,
+        /** {@link RationalNumber#mod(RationalNumber)} */
+        MOD
+    }
+
+    /**
+     * Checks whether metrics were enabled when the JVM started.
+     * @return true if metrics are being recorded
+     */
+    public static boolean isEnabled();
+
+    /**
+     * Returns the number of calls to an operation.
+     * @param op the operation
+     * @return the call count, or 0 if metrics are disabled
+     * @throws NullPointerException if op is null
+     */
+    public static long getOperationCount(Operation op);
+
+    /**
+     * Returns the number of operations completed entirely with long arithmetic.
+     * @return the fast-path count, or 0 if metrics are disabled
+     */
+    public static long getFastPathCount();
+
+    /**
+     * Returns the number of operations that used BigInteger arithmetic.
+     * @return the BigInteger-path count, or 0 if metrics are disabled
+     */
+    public static long getBigIntegerPathCount();
+
+    /**
+     * Returns a histogram of operand sizes, as described in
+     * {@link RationalMetricsMXBean#getOperandBitLengthHistogram()}.
+     * @return a copy of the histogram, with all counts zero if metrics are disabled
+     */
+    public static long[] getOperandBitLengthHistogram();
+
+    /**
+     * Returns a histogram of gcd reduction times, as described in
+     * {@link RationalMetricsMXBean#getGcdNanosHistogram()}.
+     * @return a copy of the histogram, with all counts zero if metrics are disabled
+     */
+    public static long[] getGcdNanosHistogram();
+
+    /**
+     * Sets the operand bit length above which a {@link RationalOperationEvent}
+     * is emitted. The default is 1024.
+     * @param bits the minimum operand bit length that produces an event
+     * @throws IllegalArgumentException if bits is negative
+     */
+    public static void setEventBitLengthThreshold(int bits);
+
+    /**
+     * Sets all counts and histograms back to zero.
+     */
+    public static void reset();
+}
@@ -0,0 +1,73 @@
+package rational;
+
+/**
+ * The management interface through which {@link RationalMetrics} is exposed over JMX.
+ * When metrics are enabled, an instance is registered with the platform MBean
+ * server under the name {@code RationalNumber:type=Metrics}.
+ * All counts are cumulative since the class was loaded or since the last
+ * call to {@link #reset()}.
+ */
+public interface RationalMetricsMXBean {
+
+    /**
+     * Returns the number of calls to {@link RationalNumber#plus(RationalNumber)}.
+     * @return the plus count
+     */
+    long getPlusCount();
+
+    /**
+     * Returns the number of calls to {@link RationalNumber#minus(RationalNumber)}.
+     * @return the minus count
+     */
+    long getMinusCount();
+
+    /**
+     * Returns the number of calls to {@link RationalNumber#multiply(RationalNumber)}.
+     * @return the multiply count
+     */
+    long getMultiplyCount();
+
+    /**
+     * Returns the number of calls to {@link RationalNumber#divide(RationalNumber)}.
+     * @return the divide count
+     */
+    long getDivideCount();
+
+    /**
+     * Returns the number of calls to {@link RationalNumber#mod(RationalNumber)}.
+     * @return the mod count
+     */
+    long getModCount();
+
+    /**
+     * Returns the number of operations completed entirely with long arithmetic.
+     * @return the fast-path count
+     */
+    long getFastPathCount();
+
+    /**
+     * Returns the number of operations that used BigInteger arithmetic.
+     * @return the BigInteger-path count
+     */
+    long getBigIntegerPathCount();
+
+    /**
+     * Returns a histogram of operand sizes. Element i counts operands whose
+     * larger part (numerator or denominator) has a bit length in [2^i, 2^(i+1)),
+     * with element 0 also counting zero.
+     * @return a copy of the operand bit-length histogram
+     */
+    long[] getOperandBitLengthHistogram();
+
+    /**
+     * Returns a histogram of time spent reducing results by gcd. Element i
+     * counts reductions that took between 2^i and 2^(i+1) nanoseconds.
+     * @return a copy of the gcd time histogram
+     */
+    long[] getGcdNanosHistogram();
+
+    /**
+     * Sets all counts and histograms back to zero.
+     */
+    void reset();
+}
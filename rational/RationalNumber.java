@@ -0,0 +1,367 @@
+package rational;
+
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * A class that represents rational numbers (fractions) as exact values in Java.
+ * Numbers are stored in reduced form and all arithmetic operations maintain exact precision.
+ * This class is immutable - all operations return new RationalNumber instances.
+ *
+ * Example uses:
+ * <pre>
+ * // Basic arithmetic
+ * RationalNumber a = new RationalNumber(1, 2);    // 1/2
+ * RationalNumber b = new RationalNumber(1, 3);    // 1/3
+ * RationalNumber c = a.plus(b);                   // 5/6
+ * RationalNumber d = a.times(b);                  // 1/6
+ *
+ * // Chain operations
+ * RationalNumber result = a.plus(b).minus(c).times(d);
+ *
+ * // Working with integers
+ * RationalNumber e = new RationalNumber(5);       // 5/1
+ * RationalNumber f = e.dividedBy(new RationalNumber(2)); // 5/2
+ * </pre>
+ *
+ * Numbers are always stored in reduced form with a positive denominator.
+ * For example, -1/2 is stored as (-1,2) not as (1,-2) or (-2,4).
+ *
+ * <p>Internally a value uses one of two representations. Values whose reduced
+ * numerator and denominator both fit in a {@code long} are stored as two
+ * primitive longs, and arithmetic between two such values uses overflow-checked
+ * long math (in the style of {@link Math#multiplyExact(long, long)}) together
+ * with a binary gcd, so no {@link BigInteger} is allocated. A result is promoted
+ * to the {@link BigInteger} representation only when an intermediate step
+ * overflows, and is demoted back to longs whenever its reduced form fits again.
+ * The representation is never observable: every method, including
+ * {@link #equals(Object)} and the comparison methods, gives the same result for
+ * a value regardless of how it is stored.
+ *
+ * <p>Arithmetic can optionally be instrumented; see {@link RationalMetrics}.
+ */
+public final class RationalNumber implements Comparable<RationalNumber> {
+    // Small form: used whenever the reduced value fits in two longs.
+    // Valid only when bigNumerator is null.
+    private final long numerator;
+    private final long denominator;
+
+    // Large form: non-null only when the reduced value does not fit in longs.
+    private final BigInteger bigNumerator;
+    private final BigInteger bigDenominator;
+
+    /**
+     * Creates a rational number from an integer numerator and denominator.
+     * The fraction will be reduced to lowest terms.
+     * @param numerator the numerator
+     * @param denominator the denominator
+     * @throws ArithmeticException if denominator is zero
+     */
+    public RationalNumber(long numerator, long denominator);
+
+    /**
+     * Creates a rational number equal to an integer.
+     * @param value the integer value
+     */
+    public RationalNumber(long value);
+
+    /**
+     * Returns a RationalNumber with exactly the value of a double.
+     * Every finite double is a binary fraction, so the result is exact: for
+     * example 0.1 becomes 3602879701896397/36028797018963968, not 1/10.
+     * @param value the value to convert
+     * @return a RationalNumber equal to value
+     * @throws IllegalArgumentException if value is NaN or infinite
+     */
+    public static RationalNumber fromDouble(double value);
+
+    /**
+     * Parses a decimal string into an exact rational number.
+     * The accepted syntax is an optional sign, digits with an optional decimal
+     * point, and an optional exponent, as in "12.3450", "-0.5" or "1e-3".
+     * When the value has at most 18 significant digits and both its numerator
+     * and its power-of-ten denominator fit in a long after applying the
+     * exponent, it is parsed directly into longs without creating any
+     * intermediate objects. Other values, such as "1e-30" (denominator 10^30)
+     * or "5e25" (numerator 5 * 10^25), go through {@link BigInteger}.
+     * @param s the text to parse
+     * @return a RationalNumber equal to the decimal value of s
+     * @throws NullPointerException if s is null
+     * @throws NumberFormatException if s is not a valid decimal number
+     */
+    public static RationalNumber parseDecimal(CharSequence s);
+
+    /**
+     * Returns a RationalNumber equal to numerator/denominator, reusing a cached
+     * instance where possible instead of allocating and reducing a new one.
+     * Values with small numerators and denominators are served from a table
+     * populated when the class is loaded. Other values are looked up in an
+     * optional bounded cache of recently requested values (see
+     * {@link #setRecentCacheCapacity(int)}). The cache is safe for concurrent use
+     * and does not take a global lock.
+     * Since RationalNumber is immutable, callers cannot tell a cached instance
+     * from a new one except by identity.
+     * @param numerator the numerator
+     * @param denominator the denominator
+     * @return a RationalNumber representing numerator/denominator in reduced form
+     * @throws ArithmeticException if denominator is zero
+     */
+    public static RationalNumber valueOf(long numerator, long denominator);
+
+    /**
+     * Returns a RationalNumber equal to the integer value, reusing a cached
+     * instance where possible. Equivalent to {@code valueOf(value, 1)}.
+     * @param value the integer value
+     * @return a RationalNumber representing value/1
+     */
+    public static RationalNumber valueOf(long value);
+
+    /**
+     * Sets the maximum number of entries kept in the cache of recently requested
+     * values used by {@link #valueOf(long, long)}. When the cache is full the least
+     * recently used entry is evicted. A capacity of zero disables this cache; the
+     * table of small values is always used. The default capacity is zero.
+     * @param capacity the maximum number of cached recent values
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public static void setRecentCacheCapacity(int capacity);
+
+    /**
+     * Returns the number of calls to {@link #valueOf(long, long)} that were
+     * served from a cache since the class was loaded.
+     * @return the cache hit count
+     */
+    public static long getCacheHitCount();
+
+    /**
+     * Returns the number of calls to {@link #valueOf(long, long)} that had to
+     * create a new RationalNumber since the class was loaded.
+     * @return the cache miss count
+     */
+    public static long getCacheMissCount();
+
+    /**
+     * Returns a new RationalNumber that is the sum of this and n.
+     * @param n the number to add
+     * @return a new RationalNumber representing this + n
+     * @throws NullPointerException if n is null
+     */
+    public RationalNumber plus(RationalNumber n);
+
+    /**
+     * Returns a new RationalNumber that is this minus n.
+     * @param n the number to subtract
+     * @return a new RationalNumber representing this - n
+     * @throws NullPointerException if n is null
+     */
+    public RationalNumber minus(RationalNumber n);
+
+    /**
+     * Returns a new RationalNumber that is the product of this and n.
+     * @param n the number to multiply by
+     * @return a new RationalNumber representing this × n
+     * @throws NullPointerException if n is null
+     */
+    public RationalNumber multiply(RationalNumber n);
+
+    /**
+     * Returns a new RationalNumber that is this divided by n.
+     * @param n the number to divide by
+     * @return a new RationalNumber representing this ÷ n
+     * @throws NullPointerException if n is null
+     * @throws ArithmeticException if n is zero
+     */
+    public RationalNumber divide(RationalNumber n);
+
+    /**
+     * Returns a new RationalNumber that is this modulo n.
+     * The result r satisfies: this = n.times(q).plus(r) for some q,
+     * where r has the same sign as n and abs(r) &lt; abs(n).
+     * @param n the modulus to use
+     * @return a new RationalNumber representing this mod n
+     * @throws NullPointerException if n is null
+     * @throws ArithmeticException if n is zero
+     */
+    public RationalNumber mod(RationalNumber n);
+
+    /**
+     * Returns a new RationalNumber that is the sum of this and n, approximated
+     * if necessary so that its denominator is within bound.
+     * @param n the number to add
+     * @param bound the limit on the denominator of the result
+     * @return a new RationalNumber representing this + n, limited by bound
+     * @throws NullPointerException if n or bound is null
+     */
+    public RationalNumber plus(RationalNumber n, DenominatorBound bound);
+
+    /**
+     * Returns a new RationalNumber that is this minus n, approximated if
+     * necessary so that its denominator is within bound.
+     * @param n the number to subtract
+     * @param bound the limit on the denominator of the result
+     * @return a new RationalNumber representing this - n, limited by bound
+     * @throws NullPointerException if n or bound is null
+     */
+    public RationalNumber minus(RationalNumber n, DenominatorBound bound);
+
+    /**
+     * Returns a new RationalNumber that is the product of this and n,
+     * approximated if necessary so that its denominator is within bound.
+     * @param n the number to multiply by
+     * @param bound the limit on the denominator of the result
+     * @return a new RationalNumber representing this × n, limited by bound
+     * @throws NullPointerException if n or bound is null
+     */
+    public RationalNumber multiply(RationalNumber n, DenominatorBound bound);
+
+    /**
+     * Returns a new RationalNumber that is this divided by n, approximated if
+     * necessary so that its denominator is within bound.
+     * @param n the number to divide by
+     * @param bound the limit on the denominator of the result
+     * @return a new RationalNumber representing this ÷ n, limited by bound
+     * @throws NullPointerException if n or bound is null
+     * @throws ArithmeticException if n is zero
+     */
+    public RationalNumber divide(RationalNumber n, DenominatorBound bound);
+
+    /**
+     * Returns the closest RationalNumber to this whose denominator is at most
+     * maxDenominator, like Python's {@code Fraction.limit_denominator}. The
+     * result is found from the continued fraction expansion of this number, by
+     * comparing the last convergent within the limit against the best
+     * semiconvergent. If this number's denominator is already within the limit,
+     * this number is returned.
+     * @param maxDenominator the largest allowed denominator
+     * @return the best rational approximation with denominator at most maxDenominator
+     * @throws NullPointerException if maxDenominator is null
+     * @throws IllegalArgumentException if maxDenominator is less than 1
+     */
+    public RationalNumber limitDenominator(BigInteger maxDenominator);
+
+    /**
+     * Returns the closest RationalNumber to this whose denominator is at most
+     * maxDenominator. Equivalent to
+     * {@code limitDenominator(BigInteger.valueOf(maxDenominator))}.
+     * @param maxDenominator the largest allowed denominator
+     * @return the best rational approximation with denominator at most maxDenominator
+     * @throws IllegalArgumentException if maxDenominator is less than 1
+     */
+    public RationalNumber limitDenominator(long maxDenominator);
+
+    /**
+     * Returns an iterator over the terms of the regular continued fraction
+     * expansion of this number, [a0; a1, a2, ...], where a0 is the floor of this
+     * number and every later term is positive. The expansion of a rational
+     * number is finite, and the iterator computes each term only when it is
+     * requested. The last term is greater than 1 unless the expansion has a
+     * single term.
+     * @return an iterator over the continued fraction terms
+     */
+    public Iterator<BigInteger> continuedFraction();
+
+    /**
+     * Returns the double closest to the value of this RationalNumber, rounding
+     * half to even as {@link Double#parseDouble(String)} does. Values too large in
+     * magnitude for a double convert to an infinity with the appropriate sign.
+     * @return the correctly rounded double value of this number
+     */
+    public double toDouble();
+
+    /**
+     * Returns this number as a decimal string with exactly scale digits after
+     * the decimal point, rounded with the given rounding mode.
+     * For example, 2/3 with scale 4 and {@link RoundingMode#HALF_UP} gives "0.6667".
+     * @param scale the number of digits after the decimal point
+     * @param roundingMode the rounding mode to apply
+     * @return the decimal representation of this number
+     * @throws NullPointerException if roundingMode is null
+     * @throws IllegalArgumentException if scale is negative
+     * @throws ArithmeticException if roundingMode is {@link RoundingMode#UNNECESSARY}
+     *         and this number cannot be represented exactly with the given scale
+     */
+    public String toDecimalString(int scale, RoundingMode roundingMode);
+
+    /**
+     * Checks if this RationalNumber is equal to another RationalNumber.
+     * @param obj the object to compare to
+     * @return true if obj is a RationalNumber and equal to this
+     */
+    public boolean equals(Object obj);
+
+    /**
+     * Returns a hash code for this RationalNumber, consistent with
+     * {@link #equals(Object)}. The result is
+     * {@code 31 * n.hashCode() + d.hashCode()}, where n and d are the reduced
+     * numerator and denominator as {@link BigInteger}s, whichever representation
+     * the value is stored in. For a value stored as longs the same result is
+     * computed directly from the longs, without allocating.
+     * @return a hash code for this number
+     */
+    public int hashCode();
+
+    /**
+     * Compares this RationalNumber with another RationalNumber numerically.
+     * The comparison avoids multiplication where it can: it first compares signs,
+     * then compares numerators directly when the denominators are equal, and
+     * when both values fit in longs it cross-multiplies into exact 128-bit
+     * products using {@link Math#multiplyHigh(long, long)}. Only when a value is
+     * stored as a BigInteger does it fall back to BigInteger cross-multiplication.
+     * This ordering is consistent with {@link #equals(Object)}.
+     * @param n the number to compare to
+     * @return a negative integer, zero, or a positive integer as this is
+     *         less than, equal to, or greater than n
+     * @throws NullPointerException if n is null
+     */
+    public int compareTo(RationalNumber n);
+
+    /**
+     * Returns a Comparator that orders RationalNumbers numerically, the same
+     * way as {@link #compareTo(RationalNumber)}.
+     * @return a numerical-order Comparator
+     */
+    public static Comparator<RationalNumber> comparator();
+
+    /**
+     * Sorts an array of RationalNumbers into ascending numerical order.
+     * This is faster than sorting with {@link #comparator()} for large arrays:
+     * values stored as longs are first ordered by sign and by their floor
+     * quotient, so most elements are placed without any cross-multiplication,
+     * and the exact comparison is only used to break ties within a group.
+     * The sort is stable.
+     * @param values the array to sort in place
+     * @throws NullPointerException if values is null or contains a null element
+     */
+    public static void sort(RationalNumber[] values);
+
+    /**
+     * Checks if this RationalNumber is greater than another RationalNumber.
+     * @param n the number to compare to
+     * @return true if this is greater than n
+     */
+    public boolean isGreaterThan(RationalNumber n);
+
+    /**
+     * Checks if this RationalNumber is less than another RationalNumber.
+     * @param n the number to compare to
+     * @return true if this is less than n
+     */
+    public boolean isLessThan(RationalNumber n);
+
+    /**
+     * Checks if this RationalNumber is greater than or equal to another RationalNumber.
+     * @param n the number to compare to
+     * @return true if this is greater than or equal to n
+     */
+    public boolean isGreaterThanOrEqualTo(RationalNumber n);
+
+    /**
+     * Checks if this RationalNumber is less than or equal to another RationalNumber.
+     * @param n the number to compare to
+     * @return true if this is less than or equal to n
+     */
+    public boolean isLessThanOrEqualTo(RationalNumber n);
+}
+    
\ No newline at end of file
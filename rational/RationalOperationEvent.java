@@ -0,0 +1,46 @@
+package rational;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A JDK Flight Recorder event for a RationalNumber operation on large operands.
+ * Emitted only when metrics are enabled (see {@link RationalMetrics}) and an
+ * operand's bit length exceeds the configured threshold. The event's duration
+ * covers the whole operation, including reduction of the result.
+ */
+@Name("RationalNumber.Operation")
+@Label("Rational Number Operation")
+@Category("RationalNumber")
+@Description("An arithmetic operation on RationalNumber values with large operands")
+public final class RationalOperationEvent extends Event {
+
+    /** The operation performed, as the name of a {@link RationalMetrics.Operation} constant. */
+    @Label("Operation")
+    public String operation;
+
+    /** The larger bit length of the numerator and denominator of the left operand. */
+    @Label("Left Operand Bits")
+    @DataAmount(DataAmount.BITS)
+    public int leftBits;
+
+    /** The larger bit length of the numerator and denominator of the right operand. */
+    @Label("Right Operand Bits")
+    @DataAmount(DataAmount.BITS)
+    public int rightBits;
+
+    /** The larger bit length of the numerator and denominator of the reduced result. */
+    @Label("Result Bits")
+    @DataAmount(DataAmount.BITS)
+    public int resultBits;
+
+    /** The time spent reducing the result by gcd. */
+    @Label("Gcd Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long gcdNanos;
+}